@@ -38,7 +38,8 @@ public class CreateCustomerUseCase {
             customer.getId(),
             customer.getName(),
             customer.getEmail(),
-            customer.getPhone()
+            customer.getPhone(),
+            customer.getVersion()
         );
     }
 }
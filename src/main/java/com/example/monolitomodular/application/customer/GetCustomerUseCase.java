@@ -32,12 +32,13 @@ public class GetCustomerUseCase {
     }
     
  
-    private CustomerResponse toResponse(Customer customer) {
+    CustomerResponse toResponse(Customer customer) {
         return new CustomerResponse(
             customer.getId(),
             customer.getName(),
             customer.getEmail(),
-            customer.getPhone()
+            customer.getPhone(),
+            customer.getVersion()
         );
     }
 }
@@ -5,6 +5,7 @@ public record CustomerResponse(
     Long id,
     String name,
     String email,
-    String phone
+    String phone,
+    Long version
 ) {
 }
@@ -0,0 +1,36 @@
+package com.example.monolitomodular.application.order;
+
+import com.example.monolitomodular.application.order.dto.OrderItemRequest;
+import com.example.monolitomodular.application.order.dto.OrderResponse;
+import com.example.monolitomodular.application.shared.RetryPolicy;
+import com.example.monolitomodular.domain.order.Order;
+import com.example.monolitomodular.domain.order.OrderItem;
+import com.example.monolitomodular.domain.order.OrderRepository;
+import com.example.monolitomodular.domain.shared.DomainException;
+
+/**
+ * Lê o pedido, adiciona o item e grava. Se o pedido mudar no meio (confirmado, outro item
+ * adicionado), o save detecta pela versão e a operação é refeita sobre o estado novo.
+ */
+public class AddOrderItemUseCase {
+    
+    private final OrderRepository orderRepository;
+    private final RetryPolicy retryPolicy;
+    
+    public AddOrderItemUseCase(OrderRepository orderRepository, RetryPolicy retryPolicy) {
+        this.orderRepository = orderRepository;
+        this.retryPolicy = retryPolicy;
+    }
+    
+    
+    public OrderResponse execute(Long orderId, OrderItemRequest request) {
+        return retryPolicy.execute(() -> {
+            Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new DomainException("Pedido não encontrado: " + orderId));
+            
+            order.addItem(OrderItem.create(request.productName(), request.quantity(), request.unitPrice()));
+            
+            return GetOrderUseCase.toResponse(orderRepository.save(order));
+        });
+    }
+}
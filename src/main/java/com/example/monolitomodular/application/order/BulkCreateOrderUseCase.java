@@ -0,0 +1,156 @@
+package com.example.monolitomodular.application.order;
+
+import com.example.monolitomodular.application.order.dto.BulkOrderResponse;
+import com.example.monolitomodular.application.order.dto.BulkOrderResult;
+import com.example.monolitomodular.application.order.dto.CreateOrderRequest;
+import com.example.monolitomodular.domain.customer.CustomerRepository;
+import com.example.monolitomodular.domain.order.Order;
+import com.example.monolitomodular.domain.order.OrderItem;
+import com.example.monolitomodular.domain.order.OrderRepository;
+import com.example.monolitomodular.domain.shared.DomainException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+
+public class BulkCreateOrderUseCase {
+    
+    static final String SAVE_FAILED = "Falha ao gravar o pedido";
+    
+    private static final Logger log = LoggerFactory.getLogger(BulkCreateOrderUseCase.class);
+    
+    private final OrderRepository orderRepository;
+    private final CustomerRepository customerRepository;
+    private final int chunkSize;
+    
+    public BulkCreateOrderUseCase(OrderRepository orderRepository,
+                                  CustomerRepository customerRepository,
+                                  int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize deve ser positivo");
+        }
+        this.orderRepository = orderRepository;
+        this.customerRepository = customerRepository;
+        this.chunkSize = chunkSize;
+    }
+    
+
+    public BulkOrderResponse execute(List<CreateOrderRequest> requests) {
+        return execute(requests.iterator());
+    }
+    
+    /**
+     * Consome os pedidos em blocos de {@code chunkSize}: cada bloco valida os clientes
+     * com uma única consulta e é gravado em uma única transação. Um registro cuja leitura
+     * falha com DomainException (linha malformada) vira erro no seu índice e a leitura segue.
+     */
+    public BulkOrderResponse execute(Iterator<CreateOrderRequest> requests) {
+        List<BulkOrderResult> results = new ArrayList<>();
+        List<Line> chunk = new ArrayList<>(chunkSize);
+        
+        while (requests.hasNext()) {
+            try {
+                chunk.add(new Line(requests.next(), null));
+            } catch (DomainException e) {
+                chunk.add(new Line(null, e.getMessage()));
+            }
+            if (chunk.size() == chunkSize) {
+                results.addAll(processChunk(chunk, results.size()));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(processChunk(chunk, results.size()));
+        }
+        
+        int created = (int) results.stream().filter(result -> result.error() == null).count();
+        return new BulkOrderResponse(results.size(), created, results.size() - created, results);
+    }
+    
+    private List<BulkOrderResult> processChunk(List<Line> chunk, int offset) {
+        BulkOrderResult[] results = new BulkOrderResult[chunk.size()];
+        
+        Set<Long> customerIds = chunk.stream()
+            .map(Line::request)
+            .filter(Objects::nonNull)
+            .map(CreateOrderRequest::customerId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Set<Long> existingCustomers = customerRepository.existsAllById(customerIds)
+            ? customerIds
+            : customerRepository.findExistingIds(customerIds);
+        
+        List<Order> orders = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Line line = chunk.get(i);
+            if (line.request() == null) {
+                results[i] = BulkOrderResult.failed(offset + i, line.error());
+                continue;
+            }
+            try {
+                orders.add(toOrder(line.request(), existingCustomers));
+                positions.add(i);
+            } catch (DomainException e) {
+                results[i] = BulkOrderResult.failed(offset + i, e.getMessage());
+            }
+        }
+        
+        try {
+            List<Order> saved = orderRepository.saveAll(orders);
+            for (int j = 0; j < saved.size(); j++) {
+                int i = positions.get(j);
+                results[i] = BulkOrderResult.created(offset + i, saved.get(j).getId());
+            }
+        } catch (RuntimeException e) {
+            // O bloco inteiro sofreu rollback: regrava registro a registro para isolar o que falhou
+            for (int j = 0; j < orders.size(); j++) {
+                int i = positions.get(j);
+                results[i] = saveAlone(orders.get(j), offset + i);
+            }
+        }
+        
+        return List.of(results);
+    }
+    
+    private BulkOrderResult saveAlone(Order order, int index) {
+        try {
+            return BulkOrderResult.created(index, orderRepository.save(order).getId());
+        } catch (DomainException e) {
+            return BulkOrderResult.failed(index, e.getMessage());
+        } catch (RuntimeException e) {
+            // O detalhe (SQL, colunas, valores) fica no log; o cliente recebe só o motivo genérico
+            log.warn("Falha ao gravar o pedido do índice {} da importação", index, e);
+            return BulkOrderResult.failed(index, SAVE_FAILED);
+        }
+    }
+    
+    private Order toOrder(CreateOrderRequest request, Set<Long> existingCustomers) {
+        if (!existingCustomers.contains(request.customerId())) {
+            throw new DomainException("Cliente não encontrado: " + request.customerId());
+        }
+        if (request.items() == null || request.items().isEmpty()) {
+            throw new DomainException("Pedido deve ter pelo menos um item");
+        }
+        
+        Order order = Order.create(request.customerId());
+        request.items().forEach(itemRequest -> order.addItem(OrderItem.create(
+            itemRequest.productName(),
+            itemRequest.quantity(),
+            itemRequest.unitPrice()
+        )));
+        return order;
+    }
+    
+    /**
+     * Registro lido: o pedido ou, se a leitura falhou, o motivo.
+     */
+    private record Line(CreateOrderRequest request, String error) {
+    }
+}
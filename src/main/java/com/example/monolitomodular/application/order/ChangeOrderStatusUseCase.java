@@ -0,0 +1,63 @@
+package com.example.monolitomodular.application.order;
+
+import com.example.monolitomodular.application.shared.RetryPolicy;
+import com.example.monolitomodular.domain.order.Order;
+import com.example.monolitomodular.domain.order.OrderRepository;
+import com.example.monolitomodular.domain.order.OrderStatus;
+import com.example.monolitomodular.domain.shared.ConcurrencyConflictException;
+import com.example.monolitomodular.domain.shared.DomainException;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Transições de status do pedido (confirmar, cancelar, enviar) com um UPDATE condicional.
+ * Se nenhuma linha mudar, o pedido é relido e a operação de domínio é repetida só para
+ * reportar o motivo; se ela passar, o pedido mudou no meio e o conflito é retentado.
+ */
+public class ChangeOrderStatusUseCase {
+    
+    private final OrderRepository orderRepository;
+    private final RetryPolicy retryPolicy;
+    
+    public ChangeOrderStatusUseCase(OrderRepository orderRepository) {
+        this(orderRepository, RetryPolicy.none());
+    }
+    
+    public ChangeOrderStatusUseCase(OrderRepository orderRepository, RetryPolicy retryPolicy) {
+        this.orderRepository = orderRepository;
+        this.retryPolicy = retryPolicy;
+    }
+    
+    
+    public void confirm(Long orderId) {
+        execute(orderId, OrderStatus.confirmable(), OrderStatus.CONFIRMED, Order::confirm);
+    }
+    
+    public void cancel(Long orderId) {
+        execute(orderId, OrderStatus.cancellable(), OrderStatus.CANCELLED, Order::cancel);
+    }
+    
+    public void ship(Long orderId) {
+        execute(orderId, OrderStatus.shippable(), OrderStatus.SHIPPED, Order::ship);
+    }
+    
+    private void execute(Long orderId, Set<OrderStatus> from, OrderStatus to, Consumer<Order> operation) {
+        retryPolicy.run(() -> attempt(orderId, from, to, operation));
+    }
+    
+    private void attempt(Long orderId, Set<OrderStatus> from, OrderStatus to, Consumer<Order> operation) {
+        if (orderRepository.transition(orderId, from, to)) {
+            return;
+        }
+        
+        // Nenhuma linha alterada: recarrega o pedido só para reportar o motivo
+        Order order = orderRepository.findById(orderId)
+            .orElseThrow(() -> new DomainException("Pedido não encontrado: " + orderId));
+        
+        operation.accept(order);
+        
+        // O pedido permite a transição, mas mudou entre o UPDATE e a releitura
+        throw new ConcurrencyConflictException("Pedido alterado por outra operação: " + orderId);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.monolitomodular.application.order;
+
+import com.example.monolitomodular.application.order.dto.OrderResponse;
+import com.example.monolitomodular.application.shared.RetryPolicy;
+import com.example.monolitomodular.domain.order.OrderRepository;
+import com.example.monolitomodular.domain.order.OrderStatus;
+
+import java.util.List;
+
+/**
+ * Separação de pedidos: cada chamada reivindica os próximos pedidos confirmados e os
+ * passa para PREPARING. Workers concorrentes recebem pedidos distintos.
+ */
+public class ClaimOrdersUseCase {
+    
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 100;
+    
+    private final OrderRepository orderRepository;
+    private final RetryPolicy retryPolicy;
+    
+    public ClaimOrdersUseCase(OrderRepository orderRepository, RetryPolicy retryPolicy) {
+        this.orderRepository = orderRepository;
+        this.retryPolicy = retryPolicy;
+    }
+    
+    
+    public List<OrderResponse> execute(int limit) {
+        int batch = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        return retryPolicy.execute(() -> orderRepository.claim(OrderStatus.CONFIRMED, OrderStatus.PREPARING, batch))
+            .stream()
+            .map(GetOrderUseCase::toResponse)
+            .toList();
+    }
+}
@@ -23,7 +23,7 @@ public class CreateOrderUseCase {
     
   
     public OrderResponse execute(CreateOrderRequest request) {
-        if (!customerRepository.findById(request.customerId()).isPresent()) {
+        if (!customerRepository.existsById(request.customerId())) {
             throw new DomainException("Cliente não encontrado: " + request.customerId());
         }
         
@@ -61,7 +61,8 @@ public class CreateOrderUseCase {
             order.getCreatedAt(),
             order.getStatus(),
             itemsResponse,
-            order.calculateTotal()
+            order.getTotal(),
+            order.getVersion()
         );
     }
 }
@@ -0,0 +1,60 @@
+package com.example.monolitomodular.application.order;
+
+import com.example.monolitomodular.application.order.dto.CustomerLifetimeValueResponse;
+import com.example.monolitomodular.application.order.dto.RevenueResponse;
+import com.example.monolitomodular.domain.order.OrderRepository;
+import com.example.monolitomodular.domain.order.OrderStatus;
+import com.example.monolitomodular.domain.shared.DomainException;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+
+public class GetOrderStatsUseCase {
+    
+    public static final int MAX_CUSTOMERS = 1000;
+    
+    private final OrderRepository orderRepository;
+    
+    public GetOrderStatsUseCase(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+    
+
+    public RevenueResponse revenue(LocalDateTime from, LocalDateTime to) {
+        validatePeriod(from, to);
+        return new RevenueResponse(from, to, orderRepository.sumRevenue(from, to));
+    }
+    
+
+    public Map<OrderStatus, Long> countByStatus() {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            counts.put(status, 0L);
+        }
+        counts.putAll(orderRepository.countByStatus());
+        return counts;
+    }
+    
+
+    public List<CustomerLifetimeValueResponse> topCustomers(LocalDateTime from, LocalDateTime to, int limit) {
+        validatePeriod(from, to);
+        int size = Math.min(Math.max(limit, 1), MAX_CUSTOMERS);
+        
+        return orderRepository.findTopCustomersByRevenue(from, to, size).stream()
+            .map(stats -> new CustomerLifetimeValueResponse(
+                stats.customerId(),
+                stats.orderCount(),
+                stats.lifetimeValue()
+            ))
+            .toList();
+    }
+    
+    private void validatePeriod(LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new DomainException("Período inválido: 'from' deve ser anterior a 'to'");
+        }
+    }
+}
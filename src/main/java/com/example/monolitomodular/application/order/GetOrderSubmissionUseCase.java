@@ -0,0 +1,32 @@
+package com.example.monolitomodular.application.order;
+
+import com.example.monolitomodular.application.order.dto.OrderSubmissionResponse;
+import com.example.monolitomodular.domain.shared.DomainException;
+
+import java.util.Optional;
+
+
+public class GetOrderSubmissionUseCase {
+    
+    private final OrderSubmissionStore store;
+    private final OrderSubmissionJournal journal;
+    
+    public GetOrderSubmissionUseCase(OrderSubmissionStore store, OrderSubmissionJournal journal) {
+        this.store = store;
+        this.journal = journal;
+    }
+    
+    
+    public OrderSubmissionResponse execute(String trackingId) {
+        Optional<OrderSubmissionResponse> result = store.findByTrackingId(trackingId);
+        if (result.isPresent()) {
+            return result.get();
+        }
+        if (journal.isPending(trackingId)) {
+            return OrderSubmissionResponse.pending(trackingId);
+        }
+        // O lote pode ter sido confirmado entre as duas consultas
+        return store.findByTrackingId(trackingId)
+            .orElseThrow(() -> new DomainException("Envio não encontrado: " + trackingId));
+    }
+}
@@ -1,24 +1,63 @@
 package com.example.monolitomodular.application.order;
 
 import com.example.monolitomodular.application.order.dto.OrderItemResponse;
+import com.example.monolitomodular.application.order.dto.OrderPageResponse;
 import com.example.monolitomodular.application.order.dto.OrderResponse;
+import com.example.monolitomodular.application.order.dto.OrderSummaryPageResponse;
+import com.example.monolitomodular.application.order.dto.OrderSummaryResponse;
 import com.example.monolitomodular.domain.order.Order;
 import com.example.monolitomodular.domain.order.OrderRepository;
+import com.example.monolitomodular.domain.order.OrderSummary;
 import com.example.monolitomodular.domain.shared.DomainException;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
-
+/**
+ * Consultas de pedidos. Com um modelo de leitura configurado, as consultas são servidas
+ * por ele enquanto seu atraso estiver dentro de {@code maxStaleness}; acima disso (ou se a
+ * visão de um pedido ainda não existir) a consulta vai ao modelo de escrita.
+ */
 public class GetOrderUseCase {
     
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    
     private final OrderRepository orderRepository;
+    private final OrderReadModel readModel;
+    private final Duration maxStaleness;
     
     public GetOrderUseCase(OrderRepository orderRepository) {
+        this(orderRepository, null, Duration.ZERO);
+    }
+    
+    public GetOrderUseCase(OrderRepository orderRepository, OrderReadModel readModel, Duration maxStaleness) {
         this.orderRepository = orderRepository;
+        this.readModel = readModel;
+        this.maxStaleness = maxStaleness;
     }
     
  
     public OrderResponse findById(Long id) {
+        return findById(id, null);
+    }
+    
+    /**
+     * Com {@code expectedVersion}, a visão do modelo de leitura só é usada se estiver nessa
+     * versão (a resposta tem que corresponder ao ETag já calculado).
+     */
+    public OrderResponse findById(Long id, Long expectedVersion) {
+        if (readModelIsFresh()) {
+            Optional<OrderResponse> view = readModel.findById(id)
+                .filter(order -> expectedVersion == null || expectedVersion.equals(order.version()));
+            if (view.isPresent()) {
+                return view.get();
+            }
+        }
+        
         Order order = orderRepository.findById(id)
             .orElseThrow(() -> new DomainException("Pedido não encontrado: " + id));
         
@@ -26,21 +65,104 @@ public class GetOrderUseCase {
     }
     
 
+    /**
+     * Versão atual do pedido (uma coluna, sem itens), para o GET condicional responder
+     * 304 sem montar a resposta.
+     */
+    public Optional<Long> findVersion(Long id) {
+        return orderRepository.findVersionById(id);
+    }
+    
+
     public List<OrderResponse> findByCustomerId(Long customerId) {
+        if (readModelIsFresh()) {
+            return readModel.findByCustomerId(customerId);
+        }
         return orderRepository.findByCustomerId(customerId).stream()
-            .map(this::toResponse)
+            .map(GetOrderUseCase::toResponse)
+            .toList();
+    }
+    
+
+    public OrderPageResponse findPage(Long afterId, int limit) {
+        return findPage(afterId, limit, null, null);
+    }
+    
+
+    public OrderPageResponse findPage(Long afterId, int limit, BigDecimal minTotal, BigDecimal maxTotal) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        
+        List<OrderResponse> items = page(afterId, pageSize, minTotal, maxTotal);
+        
+        Long nextCursor = items.size() == pageSize ? items.get(items.size() - 1).id() : null;
+        return new OrderPageResponse(items, nextCursor);
+    }
+    
+    public OrderSummaryPageResponse findSummaryPage(Long afterId, int limit) {
+        return findSummaryPage(afterId, limit, null, null);
+    }
+    
+
+    public OrderSummaryPageResponse findSummaryPage(Long afterId, int limit, BigDecimal minTotal, BigDecimal maxTotal) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        
+        List<OrderSummaryResponse> items = orderRepository.findSummaries(afterId, pageSize, minTotal, maxTotal).stream()
+            .map(this::toSummaryResponse)
+            .toList();
+        
+        Long nextCursor = items.size() == pageSize ? items.get(items.size() - 1).id() : null;
+        return new OrderSummaryPageResponse(items, nextCursor);
+    }
+    
+
+    public List<OrderSummaryResponse> findSummariesByCustomerId(Long customerId) {
+        return orderRepository.findSummariesByCustomerId(customerId).stream()
+            .map(this::toSummaryResponse)
             .toList();
     }
     
 
-    public List<OrderResponse> findAll() {
-        return orderRepository.findAll().stream()
-            .map(this::toResponse)
+    public List<OrderResponse> findTopByTotal(int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        if (readModelIsFresh()) {
+            return readModel.findTopByTotal(size);
+        }
+        return orderRepository.findTopByTotal(size).stream()
+            .map(GetOrderUseCase::toResponse)
             .toList();
     }
     
+    /**
+     * Percorre todos os pedidos a partir do cursor, página a página, entregando cada
+     * resposta ao consumer assim que é mapeada. Só uma página fica em memória por vez.
+     */
+    public void forEach(Long afterId, Consumer<OrderResponse> consumer) {
+        Long cursor = afterId;
+        List<OrderResponse> page;
+        do {
+            page = page(cursor, MAX_PAGE_SIZE, null, null);
+            page.forEach(consumer);
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1).id();
+            }
+        } while (page.size() == MAX_PAGE_SIZE);
+    }
+    
+    private List<OrderResponse> page(Long afterId, int pageSize, BigDecimal minTotal, BigDecimal maxTotal) {
+        if (readModelIsFresh()) {
+            return readModel.findPage(afterId, pageSize, minTotal, maxTotal);
+        }
+        return orderRepository.findPage(afterId, pageSize, minTotal, maxTotal).stream()
+            .map(GetOrderUseCase::toResponse)
+            .toList();
+    }
+    
+    private boolean readModelIsFresh() {
+        return readModel != null && readModel.lag().compareTo(maxStaleness) <= 0;
+    }
+    
 
-    private OrderResponse toResponse(Order order) {
+    static OrderResponse toResponse(Order order) {
         var itemsResponse = order.getItems().stream()
             .map(item -> new OrderItemResponse(
                 item.getId(),
@@ -57,7 +179,19 @@ public class GetOrderUseCase {
             order.getCreatedAt(),
             order.getStatus(),
             itemsResponse,
-            order.calculateTotal()
+            order.getTotal(),
+            order.getVersion()
+        );
+    }
+    
+    private OrderSummaryResponse toSummaryResponse(OrderSummary summary) {
+        return new OrderSummaryResponse(
+            summary.id(),
+            summary.customerId(),
+            summary.createdAt(),
+            summary.status(),
+            summary.itemCount(),
+            summary.total()
         );
     }
 }
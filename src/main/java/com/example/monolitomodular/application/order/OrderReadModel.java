@@ -0,0 +1,37 @@
+package com.example.monolitomodular.application.order;
+
+import com.example.monolitomodular.application.order.dto.OrderResponse;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Modelo de leitura dos pedidos: uma visão desnormalizada por pedido, já no formato da
+ * resposta, atualizada de forma assíncrona depois de cada escrita (ver OrderViewProjector).
+ */
+public interface OrderReadModel {
+    
+    Optional<OrderResponse> findById(Long id);
+    
+    List<OrderResponse> findByCustomerId(Long customerId);
+    
+    /**
+     * Página por cursor (id crescente); {@code minTotal}/{@code maxTotal} nulos não filtram.
+     */
+    List<OrderResponse> findPage(Long afterId, int limit, BigDecimal minTotal, BigDecimal maxTotal);
+    
+    List<OrderResponse> findTopByTotal(int limit);
+    
+    /**
+     * Limite superior do atraso da visão em relação às escritas já confirmadas.
+     */
+    Duration lag();
+    
+    void save(OrderResponse order);
+    
+    void delete(Long id);
+    
+    boolean isEmpty();
+}
@@ -0,0 +1,15 @@
+package com.example.monolitomodular.application.order;
+
+import com.example.monolitomodular.application.order.dto.CreateOrderRequest;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pedido aceito no modo assíncrono: já validado em memória, aguardando gravação no banco.
+ */
+public record OrderSubmission(
+    String trackingId,
+    LocalDateTime acceptedAt,
+    CreateOrderRequest request
+) {
+}
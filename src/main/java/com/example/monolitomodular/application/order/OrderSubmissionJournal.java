@@ -0,0 +1,12 @@
+package com.example.monolitomodular.application.order;
+
+/**
+ * Diário local dos pedidos aceitos no modo assíncrono. {@code append} só retorna depois
+ * que o envio está em disco; ele fica pendente até o lote dele ser gravado no banco.
+ */
+public interface OrderSubmissionJournal {
+    
+    void append(OrderSubmission submission);
+    
+    boolean isPending(String trackingId);
+}
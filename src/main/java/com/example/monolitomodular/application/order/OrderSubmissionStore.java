@@ -0,0 +1,23 @@
+package com.example.monolitomodular.application.order;
+
+import com.example.monolitomodular.application.order.dto.OrderSubmissionResponse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Resultado dos envios já processados, gravado na mesma transação dos pedidos criados.
+ */
+public interface OrderSubmissionStore {
+    
+    Optional<OrderSubmissionResponse> findByTrackingId(String trackingId);
+    
+    /**
+     * Quais destes envios já têm resultado gravado (reprocessamento após uma queda).
+     */
+    Set<String> findProcessed(Collection<String> trackingIds);
+    
+    void saveAll(List<OrderSubmissionResponse> results);
+}
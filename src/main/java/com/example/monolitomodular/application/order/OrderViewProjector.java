@@ -0,0 +1,50 @@
+package com.example.monolitomodular.application.order;
+
+import com.example.monolitomodular.domain.order.Order;
+import com.example.monolitomodular.domain.order.OrderRepository;
+
+import java.util.List;
+
+/**
+ * Mantém o modelo de leitura: recarrega o pedido do modelo de escrita e regrava sua visão.
+ * Reprojetar o mesmo pedido é idempotente, então eventos repetidos não causam problema.
+ */
+public class OrderViewProjector {
+    
+    private static final int REBUILD_PAGE_SIZE = 500;
+    
+    private final OrderRepository orderRepository;
+    private final OrderReadModel readModel;
+    
+    public OrderViewProjector(OrderRepository orderRepository, OrderReadModel readModel) {
+        this.orderRepository = orderRepository;
+        this.readModel = readModel;
+    }
+    
+
+    public void project(Long orderId) {
+        orderRepository.findById(orderId)
+            .map(GetOrderUseCase::toResponse)
+            .ifPresentOrElse(readModel::save, () -> readModel.delete(orderId));
+    }
+    
+    /**
+     * Reprojeta todos os pedidos, página a página. Devolve quantos foram projetados.
+     */
+    public int rebuild() {
+        int projected = 0;
+        Long cursor = null;
+        List<Order> page;
+        do {
+            page = orderRepository.findPage(cursor, REBUILD_PAGE_SIZE);
+            for (Order order : page) {
+                readModel.save(GetOrderUseCase.toResponse(order));
+            }
+            projected += page.size();
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+        return projected;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.monolitomodular.application.order;
+
+import com.example.monolitomodular.application.order.dto.CreateOrderRequest;
+import com.example.monolitomodular.application.order.dto.OrderSubmissionResponse;
+import com.example.monolitomodular.domain.customer.CustomerRepository;
+import com.example.monolitomodular.domain.order.Order;
+import com.example.monolitomodular.domain.order.OrderItem;
+import com.example.monolitomodular.domain.order.OrderRepository;
+import com.example.monolitomodular.domain.shared.DomainException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Grava um lote de envios do diário: clientes validados com uma consulta, pedidos com
+ * saveAll e o resultado de cada envio no OrderSubmissionStore. Quem chama abre uma única
+ * transação para tudo; como envios já registrados são pulados, repetir um lote é seguro.
+ */
+public class ProcessOrderSubmissionsUseCase {
+    
+    private final OrderRepository orderRepository;
+    private final CustomerRepository customerRepository;
+    private final OrderSubmissionStore store;
+    
+    public ProcessOrderSubmissionsUseCase(OrderRepository orderRepository,
+                                          CustomerRepository customerRepository,
+                                          OrderSubmissionStore store) {
+        this.orderRepository = orderRepository;
+        this.customerRepository = customerRepository;
+        this.store = store;
+    }
+    
+    
+    public List<OrderSubmissionResponse> execute(List<OrderSubmission> submissions) {
+        Map<String, OrderSubmission> pending = new LinkedHashMap<>();
+        submissions.forEach(submission -> pending.putIfAbsent(submission.trackingId(), submission));
+        store.findProcessed(pending.keySet()).forEach(pending::remove);
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        
+        Set<Long> customerIds = pending.values().stream()
+            .map(submission -> submission.request().customerId())
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Set<Long> existingCustomers = customerRepository.existsAllById(customerIds)
+            ? customerIds
+            : customerRepository.findExistingIds(customerIds);
+        
+        List<OrderSubmissionResponse> results = new ArrayList<>(pending.size());
+        List<Order> orders = new ArrayList<>();
+        List<String> trackingIds = new ArrayList<>();
+        for (OrderSubmission submission : pending.values()) {
+            try {
+                orders.add(toOrder(submission.request(), existingCustomers));
+                trackingIds.add(submission.trackingId());
+            } catch (DomainException e) {
+                results.add(OrderSubmissionResponse.rejected(submission.trackingId(), e.getMessage()));
+            }
+        }
+        
+        List<Order> saved = orderRepository.saveAll(orders);
+        for (int i = 0; i < saved.size(); i++) {
+            results.add(OrderSubmissionResponse.created(trackingIds.get(i), saved.get(i).getId()));
+        }
+        
+        store.saveAll(results);
+        return results;
+    }
+    
+    /**
+     * Registra o envio como rejeitado quando nem sozinho ele pôde ser gravado.
+     */
+    public void reject(OrderSubmission submission, String error) {
+        if (store.findProcessed(List.of(submission.trackingId())).isEmpty()) {
+            store.saveAll(List.of(OrderSubmissionResponse.rejected(submission.trackingId(), error)));
+        }
+    }
+    
+    private Order toOrder(CreateOrderRequest request, Set<Long> existingCustomers) {
+        if (!existingCustomers.contains(request.customerId())) {
+            throw new DomainException("Cliente não encontrado: " + request.customerId());
+        }
+        
+        Order order = Order.create(request.customerId());
+        request.items().forEach(itemRequest -> order.addItem(OrderItem.create(
+            itemRequest.productName(),
+            itemRequest.quantity(),
+            itemRequest.unitPrice()
+        )));
+        return order;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.monolitomodular.application.order;
+
+import com.example.monolitomodular.application.order.dto.CreateOrderRequest;
+import com.example.monolitomodular.application.order.dto.OrderSubmissionResponse;
+import com.example.monolitomodular.domain.order.Order;
+import com.example.monolitomodular.domain.order.OrderItem;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Criação assíncrona: valida o pedido em memória, grava no diário e devolve um id de
+ * acompanhamento. A verificação do cliente e o INSERT ficam para o lote (ProcessOrderSubmissionsUseCase).
+ */
+public class SubmitOrderUseCase {
+    
+    private final OrderSubmissionJournal journal;
+    
+    public SubmitOrderUseCase(OrderSubmissionJournal journal) {
+        this.journal = journal;
+    }
+    
+    
+    public OrderSubmissionResponse execute(CreateOrderRequest request) {
+        Order order = Order.create(request.customerId());
+        request.items().forEach(itemRequest -> order.addItem(OrderItem.create(
+            itemRequest.productName(),
+            itemRequest.quantity(),
+            itemRequest.unitPrice()
+        )));
+        
+        String trackingId = UUID.randomUUID().toString();
+        journal.append(new OrderSubmission(trackingId, LocalDateTime.now(), request));
+        return OrderSubmissionResponse.pending(trackingId);
+    }
+}
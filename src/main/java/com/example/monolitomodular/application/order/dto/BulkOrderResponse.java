@@ -0,0 +1,14 @@
+package com.example.monolitomodular.application.order.dto;
+
+import java.util.List;
+
+/**
+ * DTO - Resposta da importação em lote
+ */
+public record BulkOrderResponse(
+    int total,
+    int created,
+    int failed,
+    List<BulkOrderResult> results
+) {
+}
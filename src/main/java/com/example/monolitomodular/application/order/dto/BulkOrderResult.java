@@ -0,0 +1,19 @@
+package com.example.monolitomodular.application.order.dto;
+
+/**
+ * DTO - Resultado de um registro da importação em lote
+ */
+public record BulkOrderResult(
+    int index,
+    Long orderId,
+    String error
+) {
+    
+    public static BulkOrderResult created(int index, Long orderId) {
+        return new BulkOrderResult(index, orderId, null);
+    }
+    
+    public static BulkOrderResult failed(int index, String error) {
+        return new BulkOrderResult(index, null, error);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.monolitomodular.application.order.dto;
+
+import java.math.BigDecimal;
+
+
+public record CustomerLifetimeValueResponse(
+    Long customerId,
+    long orderCount,
+    BigDecimal lifetimeValue
+) {
+}
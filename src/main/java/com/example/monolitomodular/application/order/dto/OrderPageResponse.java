@@ -0,0 +1,12 @@
+package com.example.monolitomodular.application.order.dto;
+
+import java.util.List;
+
+/**
+ * DTO - Página de pedidos (paginação por cursor)
+ */
+public record OrderPageResponse(
+    List<OrderResponse> items,
+    Long nextCursor
+) {
+}
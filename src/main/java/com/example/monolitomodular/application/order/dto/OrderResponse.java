@@ -13,6 +13,7 @@ public record OrderResponse(
     LocalDateTime createdAt,
     OrderStatus status,
     List<OrderItemResponse> items,
-    BigDecimal total
+    BigDecimal total,
+    Long version
 ) {
 }
@@ -0,0 +1,30 @@
+package com.example.monolitomodular.application.order.dto;
+
+/**
+ * DTO - Situação de um pedido enviado no modo assíncrono
+ */
+public record OrderSubmissionResponse(
+    String trackingId,
+    Status status,
+    Long orderId,
+    String error
+) {
+    
+    public enum Status {
+        PENDING,
+        CREATED,
+        REJECTED
+    }
+    
+    public static OrderSubmissionResponse pending(String trackingId) {
+        return new OrderSubmissionResponse(trackingId, Status.PENDING, null, null);
+    }
+    
+    public static OrderSubmissionResponse created(String trackingId, Long orderId) {
+        return new OrderSubmissionResponse(trackingId, Status.CREATED, orderId, null);
+    }
+    
+    public static OrderSubmissionResponse rejected(String trackingId, String error) {
+        return new OrderSubmissionResponse(trackingId, Status.REJECTED, null, error);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.monolitomodular.application.order.dto;
+
+import java.util.List;
+
+/**
+ * DTO - Página de pedidos resumidos (paginação por cursor)
+ */
+public record OrderSummaryPageResponse(
+    List<OrderSummaryResponse> items,
+    Long nextCursor
+) {
+}
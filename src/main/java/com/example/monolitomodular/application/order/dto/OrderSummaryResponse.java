@@ -0,0 +1,19 @@
+package com.example.monolitomodular.application.order.dto;
+
+import com.example.monolitomodular.domain.order.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO - Pedido resumido (sem itens) para telas de listagem
+ */
+public record OrderSummaryResponse(
+    Long id,
+    Long customerId,
+    LocalDateTime createdAt,
+    OrderStatus status,
+    Integer itemCount,
+    BigDecimal total
+) {
+}
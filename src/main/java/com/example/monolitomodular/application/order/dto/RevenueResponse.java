@@ -0,0 +1,12 @@
+package com.example.monolitomodular.application.order.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+
+public record RevenueResponse(
+    LocalDateTime from,
+    LocalDateTime to,
+    BigDecimal total
+) {
+}
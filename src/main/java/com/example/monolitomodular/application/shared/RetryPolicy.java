@@ -0,0 +1,75 @@
+package com.example.monolitomodular.application.shared;
+
+import com.example.monolitomodular.domain.shared.ConcurrencyConflictException;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Repete uma operação que falhou por {@link ConcurrencyConflictException}, até
+ * {@code maxAttempts} tentativas, com backoff exponencial e jitter entre elas. A operação
+ * tem que recarregar o agregado a cada tentativa. Outras exceções não são repetidas.
+ */
+public class RetryPolicy {
+    
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    
+    public RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts deve ser >= 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = Math.max(maxBackoff.toNanos(), initialBackoffNanos);
+    }
+    
+    /**
+     * Uma única tentativa: o conflito chega direto a quem chamou.
+     */
+    public static RetryPolicy none() {
+        return new RetryPolicy(1, Duration.ZERO, Duration.ZERO);
+    }
+    
+    public <T> T execute(Supplier<T> operation) {
+        long backoff = initialBackoffNanos;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return operation.get();
+            } catch (ConcurrencyConflictException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                sleep(backoff, e);
+                backoff = Math.min(backoff * 2, maxBackoffNanos);
+            }
+        }
+    }
+    
+    public void run(Runnable operation) {
+        execute(() -> {
+            operation.run();
+            return null;
+        });
+    }
+    
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+    
+    // Full jitter: espera aleatória em [0, backoff] para as tentativas não colidirem de novo
+    private void sleep(long backoffNanos, ConcurrencyConflictException conflict) {
+        if (backoffNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(backoffNanos + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+}
@@ -14,6 +14,7 @@ public class Customer {
     private String name;
     private String email;
     private String phone;
+    private Long version;
     
     private Customer() {}
     
@@ -28,12 +29,17 @@ public class Customer {
     }
     
 
-    public static Customer reconstitute(Long id, String name, String email, String phone) {
+    /**
+     * Reconstitui com a versão lida do banco; o repositório recusa salvar o cliente se a
+     * versão persistida tiver mudado desde a leitura.
+     */
+    public static Customer reconstitute(Long id, String name, String email, String phone, Long version) {
         Customer customer = new Customer();
         customer.id = id;
         customer.name = name;
         customer.email = email;
         customer.phone = phone;
+        customer.version = version;
         return customer;
     }
     
@@ -67,6 +73,7 @@ public class Customer {
     public String getName() { return name; }
     public String getEmail() { return email; }
     public String getPhone() { return phone; }
+    public Long getVersion() { return version; }
     
     private void setName(String name) {
         this.name = name;
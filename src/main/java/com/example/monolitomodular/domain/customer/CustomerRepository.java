@@ -1,7 +1,9 @@
 package com.example.monolitomodular.domain.customer;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 
 public interface CustomerRepository {
@@ -11,12 +13,25 @@ public interface CustomerRepository {
 
     Optional<Customer> findById(Long id);
     
+    
+    boolean existsById(Long id);
+    
+    /**
+     * true se todos os ids informados existem.
+     */
+    boolean existsAllById(Collection<Long> ids);
+    
 
     Optional<Customer> findByEmail(String email);
     List<Customer> findAll();
     
 
     boolean existsByEmail(String email);
+    
+    /**
+     * Retorna, dentre os ids informados, os que existem (uma única consulta).
+     */
+    Set<Long> findExistingIds(Collection<Long> ids);
 
     void delete(Long id);
 }
@@ -0,0 +1,11 @@
+package com.example.monolitomodular.domain.order;
+
+import java.math.BigDecimal;
+
+
+public record CustomerOrderStats(
+    Long customerId,
+    Long orderCount,
+    BigDecimal lifetimeValue
+) {
+}
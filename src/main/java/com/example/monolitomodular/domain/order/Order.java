@@ -16,6 +16,9 @@ public class Order {
     private LocalDateTime createdAt;
     private OrderStatus status;
     private List<OrderItem> items;
+    private BigDecimal storedTotal;
+    private Long version;
+    private final List<OrderEvent> events = new ArrayList<>();
     
     private Order() {
         this.items = new ArrayList<>();
@@ -32,14 +35,20 @@ public class Order {
     }
     
 
-    public static Order reconstitute(Long id, Long customerId, LocalDateTime createdAt, 
-                                     OrderStatus status, List<OrderItem> items) {
+    /**
+     * Reconstitui com o total já persistido (nulo: calculado a partir dos itens) e a versão
+     * lida do banco; o repositório recusa salvar o pedido se a versão persistida tiver mudado.
+     */
+    public static Order reconstitute(Long id, Long customerId, LocalDateTime createdAt, OrderStatus status,
+                                     List<OrderItem> items, BigDecimal total, Long version) {
         Order order = new Order();
         order.id = id;
         order.customerId = customerId;
         order.createdAt = createdAt;
         order.status = status;
         order.items = items != null ? new ArrayList<>(items) : new ArrayList<>();
+        order.storedTotal = total;
+        order.version = version;
         return order;
     }
 
@@ -51,6 +60,7 @@ public class Order {
             throw new DomainException("Item não pode ser nulo");
         }
         this.items.add(item);
+        this.storedTotal = null;
     }
     
 
@@ -58,10 +68,10 @@ public class Order {
         if (items.isEmpty()) {
             throw new DomainException("Pedido deve ter pelo menos um item");
         }
-        if (status != OrderStatus.PENDING) {
+        if (!status.canBeConfirmed()) {
             throw new DomainException("Apenas pedidos pendentes podem ser confirmados");
         }
-        this.status = OrderStatus.CONFIRMED;
+        changeStatus(OrderStatus.CONFIRMED);
     }
     
 
@@ -69,7 +79,7 @@ public class Order {
         if (!status.canBeCancelled()) {
             throw new DomainException("Pedido não pode ser cancelado no status atual: " + status);
         }
-        this.status = OrderStatus.CANCELLED;
+        changeStatus(OrderStatus.CANCELLED);
     }
     
 
@@ -77,7 +87,27 @@ public class Order {
         if (!status.canBeShipped()) {
             throw new DomainException("Pedido não pode ser enviado no status atual: " + status);
         }
-        this.status = OrderStatus.SHIPPED;
+        changeStatus(OrderStatus.SHIPPED);
+    }
+    
+
+    /**
+     * Eventos ainda não publicados, em ordem; a lista é esvaziada. Chamado pelo repositório
+     * na mesma transação que grava o pedido. Um pedido novo (sem id) gera OrderCreated.
+     */
+    public List<OrderEvent> pullEvents() {
+        List<OrderEvent> pulled = new ArrayList<>(events.size() + 1);
+        if (id == null) {
+            pulled.add(new OrderCreated(customerId, calculateTotal(), items.size(), createdAt));
+        }
+        pulled.addAll(events);
+        events.clear();
+        return pulled;
+    }
+    
+    private void changeStatus(OrderStatus newStatus) {
+        this.status = newStatus;
+        events.add(new OrderStatusChanged(newStatus, LocalDateTime.now()));
     }
     
 
@@ -87,6 +117,13 @@ public class Order {
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
     
+    /**
+     * Total persistido quando disponível; senão, calculado a partir dos itens.
+     */
+    public BigDecimal getTotal() {
+        return storedTotal != null ? storedTotal : calculateTotal();
+    }
+    
 
     private void validate() {
         if (customerId == null) {
@@ -104,6 +141,7 @@ public class Order {
     public Long getCustomerId() { return customerId; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public OrderStatus getStatus() { return status; }
+    public Long getVersion() { return version; }
     public List<OrderItem> getItems() { 
         return Collections.unmodifiableList(items); 
     }
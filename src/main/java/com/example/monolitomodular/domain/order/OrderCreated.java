@@ -0,0 +1,13 @@
+package com.example.monolitomodular.domain.order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+
+public record OrderCreated(
+    Long customerId,
+    BigDecimal total,
+    int itemCount,
+    LocalDateTime occurredAt
+) implements OrderEvent {
+}
@@ -0,0 +1,16 @@
+package com.example.monolitomodular.domain.order;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de domínio do pedido. O id do pedido não faz parte do evento: ele viaja no
+ * envelope do outbox, já que um pedido novo só recebe id ao ser gravado.
+ */
+public sealed interface OrderEvent permits OrderCreated, OrderStatusChanged {
+    
+    LocalDateTime occurredAt();
+    
+    default String type() {
+        return getClass().getSimpleName();
+    }
+}
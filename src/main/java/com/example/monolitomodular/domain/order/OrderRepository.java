@@ -1,7 +1,11 @@
 package com.example.monolitomodular.domain.order;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 
 public interface OrderRepository {
@@ -9,15 +13,71 @@ public interface OrderRepository {
 
     Order save(Order order);
     
+    
+    List<Order> saveAll(List<Order> orders);
+    
 
     Optional<Order> findById(Long id);
     
 
     List<Order> findByCustomerId(Long customerId);
     
+    /**
+     * Só a versão do pedido, sem carregar o agregado.
+     */
+    Optional<Long> findVersionById(Long id);
+    
 
     List<Order> findAll();
     
+
+    List<Order> findPage(Long afterId, int limit);
+    
+    /**
+     * Como findPage, filtrando pelo total persistido; {@code minTotal}/{@code maxTotal} nulos não filtram.
+     */
+    List<Order> findPage(Long afterId, int limit, BigDecimal minTotal, BigDecimal maxTotal);
+    
+    
+    List<Order> findTopByTotal(int limit);
+    
+    /**
+     * Lista resumida (sem itens) para telas de listagem; lê apenas a tabela de pedidos.
+     */
+    List<OrderSummary> findSummaries(Long afterId, int limit);
+    
+    /**
+     * Como findSummaries, filtrando pelo total persistido; {@code minTotal}/{@code maxTotal} nulos não filtram.
+     */
+    List<OrderSummary> findSummaries(Long afterId, int limit, BigDecimal minTotal, BigDecimal maxTotal);
+    
+    
+    List<OrderSummary> findSummariesByCustomerId(Long customerId);
+    
+    /**
+     * Muda o status do pedido para {@code to} em uma única operação atômica, desde que o
+     * status atual esteja em {@code from}. Retorna false se nenhum pedido foi alterado
+     * (inexistente ou em status não permitido).
+     */
+    boolean transition(Long id, Set<OrderStatus> from, OrderStatus to);
+    
+    /**
+     * Fila de trabalho: move até {@code limit} pedidos (os mais antigos) de {@code from} para
+     * {@code to} e os devolve com itens. Pedidos já travados por outra chamada são pulados,
+     * então consumidores concorrentes recebem pedidos diferentes sem esperar uns pelos outros.
+     */
+    List<Order> claim(OrderStatus from, OrderStatus to, int limit);
+    
+    /**
+     * Agregações calculadas no banco. Pedidos cancelados não entram na receita;
+     * {@code from}/{@code to} nulos não limitam o período.
+     */
+    BigDecimal sumRevenue(LocalDateTime from, LocalDateTime to);
+    
+    Map<OrderStatus, Long> countByStatus();
+    
+    List<CustomerOrderStats> findTopCustomersByRevenue(LocalDateTime from, LocalDateTime to, int limit);
+    
  
     void delete(Long id);
 }
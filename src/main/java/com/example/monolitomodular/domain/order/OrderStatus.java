@@ -1,5 +1,11 @@
 package com.example.monolitomodular.domain.order;
 
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
 
 public enum OrderStatus {
     PENDING,      
@@ -9,11 +15,48 @@ public enum OrderStatus {
     DELIVERED,    
     CANCELLED;    
     
+    public boolean canBeConfirmed() {
+        return this == PENDING;
+    }
+    
     public boolean canBeCancelled() {
         return this == PENDING || this == CONFIRMED;
     }
     
+    public boolean canStartPreparing() {
+        return this == CONFIRMED;
+    }
+    
     public boolean canBeShipped() {
         return this == PREPARING;
     }
+    
+    /**
+     * Um pedido só chega a este status se tiver itens (ver Order.confirm()).
+     */
+    public boolean requiresItems() {
+        return this == CONFIRMED;
+    }
+    
+    public static Set<OrderStatus> confirmable() {
+        return matching(OrderStatus::canBeConfirmed);
+    }
+    
+    public static Set<OrderStatus> cancellable() {
+        return matching(OrderStatus::canBeCancelled);
+    }
+    
+    public static Set<OrderStatus> preparable() {
+        return matching(OrderStatus::canStartPreparing);
+    }
+    
+    public static Set<OrderStatus> shippable() {
+        return matching(OrderStatus::canBeShipped);
+    }
+    
+    private static Set<OrderStatus> matching(Predicate<OrderStatus> rule) {
+        return Arrays.stream(values())
+            .filter(rule)
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(OrderStatus.class)));
+    }
 }
@@ -0,0 +1,10 @@
+package com.example.monolitomodular.domain.order;
+
+import java.time.LocalDateTime;
+
+
+public record OrderStatusChanged(
+    OrderStatus status,
+    LocalDateTime occurredAt
+) implements OrderEvent {
+}
@@ -0,0 +1,17 @@
+package com.example.monolitomodular.domain.order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Projeção de leitura do pedido sem itens, lida direto da tabela orders.
+ */
+public record OrderSummary(
+    Long id,
+    Long customerId,
+    LocalDateTime createdAt,
+    OrderStatus status,
+    Integer itemCount,
+    BigDecimal total
+) {
+}
@@ -0,0 +1,16 @@
+package com.example.monolitomodular.domain.shared;
+
+/**
+ * O agregado foi alterado por outra operação entre a leitura e a gravação. A operação
+ * pode ser repetida a partir de uma nova leitura.
+ */
+public class ConcurrencyConflictException extends DomainException {
+    
+    public ConcurrencyConflictException(String message) {
+        super(message);
+    }
+    
+    public ConcurrencyConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,19 +2,69 @@ package com.example.monolitomodular.infrastructure.config;
 
 import com.example.monolitomodular.application.customer.CreateCustomerUseCase;
 import com.example.monolitomodular.application.customer.GetCustomerUseCase;
-import com.example.monolitomodular.application.order.ConfirmOrderUseCase;
+import com.example.monolitomodular.application.order.AddOrderItemUseCase;
+import com.example.monolitomodular.application.order.BulkCreateOrderUseCase;
+import com.example.monolitomodular.application.order.ClaimOrdersUseCase;
+import com.example.monolitomodular.application.order.ChangeOrderStatusUseCase;
 import com.example.monolitomodular.application.order.CreateOrderUseCase;
+import com.example.monolitomodular.application.order.GetOrderStatsUseCase;
 import com.example.monolitomodular.application.order.GetOrderUseCase;
+import com.example.monolitomodular.application.order.OrderReadModel;
+import com.example.monolitomodular.application.order.OrderViewProjector;
+import com.example.monolitomodular.application.shared.RetryPolicy;
 import com.example.monolitomodular.domain.customer.CustomerRepository;
 import com.example.monolitomodular.domain.order.OrderRepository;
+import com.example.monolitomodular.infrastructure.persistence.customer.CachingCustomerRepository;
+import com.example.monolitomodular.infrastructure.persistence.customer.CustomerRepositoryImpl;
+import com.example.monolitomodular.infrastructure.persistence.customer.EmailBloomFilter;
+import com.example.monolitomodular.infrastructure.persistence.order.CoalescingOrderRepository;
+import com.example.monolitomodular.infrastructure.persistence.order.OrderRepositoryImpl;
+import com.example.monolitomodular.infrastructure.readmodel.JpaOrderReadModel;
+import com.example.monolitomodular.infrastructure.readmodel.OrderViewListener;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
 
 
 @Configuration
 public class BeanConfiguration {
     
     
+    @Bean
+    @Primary
+    public CachingCustomerRepository cachingCustomerRepository(
+            CustomerRepositoryImpl customerRepository,
+            @Value("${app.customers.cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.customers.cache.ttl:10m}") Duration ttl) {
+        return new CachingCustomerRepository(customerRepository, maximumSize, ttl);
+    }
+    
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "app.orders.coalescer.enabled", havingValue = "true")
+    public CoalescingOrderRepository coalescingOrderRepository(
+            OrderRepositoryImpl orderRepository,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${app.orders.coalescer.max-batch-size:50}") int maxBatchSize,
+            @Value("${app.orders.coalescer.max-wait:2ms}") Duration maxWait,
+            @Value("${app.orders.coalescer.writers:2}") int writers,
+            @Value("${app.orders.coalescer.queue-capacity:10000}") int queueCapacity) {
+        return new CoalescingOrderRepository(orderRepository, entityManagerFactory, maxBatchSize, maxWait,
+            writers, queueCapacity);
+    }
+    
+    @Bean
+    public EmailBloomFilter customerEmailFilter(
+            @Value("${app.customers.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${app.customers.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        return new EmailBloomFilter(expectedInsertions, falsePositiveRate);
+    }
+    
     @Bean
     public CreateCustomerUseCase createCustomerUseCase(CustomerRepository customerRepository) {
         return new CreateCustomerUseCase(customerRepository);
@@ -33,12 +83,62 @@ public class BeanConfiguration {
     }
     
     @Bean
-    public GetOrderUseCase getOrderUseCase(OrderRepository orderRepository) {
-        return new GetOrderUseCase(orderRepository);
+    public BulkCreateOrderUseCase bulkCreateOrderUseCase(OrderRepository orderRepository,
+                                                         CustomerRepository customerRepository,
+                                                         @Value("${app.orders.bulk.chunk-size:500}") int chunkSize) {
+        return new BulkCreateOrderUseCase(orderRepository, customerRepository, chunkSize);
+    }
+    
+    @Bean
+    public GetOrderUseCase getOrderUseCase(
+            OrderRepository orderRepository,
+            OrderReadModel orderReadModel,
+            @Value("${app.orders.read-model.enabled:true}") boolean readModelEnabled,
+            @Value("${app.orders.read-model.max-staleness:2s}") Duration maxStaleness) {
+        if (!readModelEnabled) {
+            return new GetOrderUseCase(orderRepository);
+        }
+        return new GetOrderUseCase(orderRepository, orderReadModel, maxStaleness);
+    }
+    
+    @Bean
+    public OrderViewProjector orderViewProjector(OrderRepository orderRepository, OrderReadModel orderReadModel) {
+        return new OrderViewProjector(orderRepository, orderReadModel);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "app.orders.read-model.enabled", havingValue = "true", matchIfMissing = true)
+    @ConditionalOnProperty(name = "app.outbox.sink", havingValue = "in-process", matchIfMissing = true)
+    public OrderViewListener orderViewListener(OrderViewProjector projector, JpaOrderReadModel orderReadModel) {
+        return new OrderViewListener(projector, orderReadModel);
+    }
+    
+    @Bean
+    public GetOrderStatsUseCase getOrderStatsUseCase(OrderRepository orderRepository) {
+        return new GetOrderStatsUseCase(orderRepository);
+    }
+    
+    @Bean
+    public RetryPolicy orderRetryPolicy(
+            @Value("${app.orders.retry.max-attempts:5}") int maxAttempts,
+            @Value("${app.orders.retry.initial-backoff:20ms}") Duration initialBackoff,
+            @Value("${app.orders.retry.max-backoff:500ms}") Duration maxBackoff) {
+        return new RetryPolicy(maxAttempts, initialBackoff, maxBackoff);
+    }
+    
+    @Bean
+    public AddOrderItemUseCase addOrderItemUseCase(OrderRepository orderRepository, RetryPolicy orderRetryPolicy) {
+        return new AddOrderItemUseCase(orderRepository, orderRetryPolicy);
+    }
+    
+    @Bean
+    public ClaimOrdersUseCase claimOrdersUseCase(OrderRepository orderRepository, RetryPolicy orderRetryPolicy) {
+        return new ClaimOrdersUseCase(orderRepository, orderRetryPolicy);
     }
     
     @Bean
-    public ConfirmOrderUseCase confirmOrderUseCase(OrderRepository orderRepository) {
-        return new ConfirmOrderUseCase(orderRepository);
+    public ChangeOrderStatusUseCase changeOrderStatusUseCase(OrderRepository orderRepository,
+                                                             RetryPolicy orderRetryPolicy) {
+        return new ChangeOrderStatusUseCase(orderRepository, orderRetryPolicy);
     }
 }
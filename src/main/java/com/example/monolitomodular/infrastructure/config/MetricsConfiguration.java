@@ -0,0 +1,35 @@
+package com.example.monolitomodular.infrastructure.config;
+
+import com.example.monolitomodular.infrastructure.metrics.MetricsAspect;
+import com.example.monolitomodular.infrastructure.metrics.StatementCountFilter;
+import com.example.monolitomodular.infrastructure.metrics.StatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+
+@Configuration
+public class MetricsConfiguration {
+    
+    @Bean
+    public MetricsAspect metricsAspect(MeterRegistry registry) {
+        return new MetricsAspect(registry);
+    }
+    
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer(StatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+    
+    @Bean
+    public StatementCountFilter statementCountFilter(StatementCounter statementCounter, MeterRegistry registry) {
+        return new StatementCountFilter(statementCounter, registry);
+    }
+}
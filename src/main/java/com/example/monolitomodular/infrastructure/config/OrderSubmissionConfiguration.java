@@ -0,0 +1,61 @@
+package com.example.monolitomodular.infrastructure.config;
+
+import com.example.monolitomodular.application.order.GetOrderSubmissionUseCase;
+import com.example.monolitomodular.application.order.OrderSubmissionStore;
+import com.example.monolitomodular.application.order.ProcessOrderSubmissionsUseCase;
+import com.example.monolitomodular.application.order.SubmitOrderUseCase;
+import com.example.monolitomodular.domain.customer.CustomerRepository;
+import com.example.monolitomodular.domain.order.OrderRepository;
+import com.example.monolitomodular.infrastructure.submission.FileOrderSubmissionJournal;
+import com.example.monolitomodular.infrastructure.submission.OrderSubmissionWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Criação assíncrona de pedidos (POST /api/orders/submissions), ligada por app.orders.async.enabled.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.orders.async.enabled", havingValue = "true")
+public class OrderSubmissionConfiguration {
+    
+    @Bean
+    public FileOrderSubmissionJournal orderSubmissionJournal(
+            @Value("${app.orders.async.journal-dir:./data/order-journal}") Path directory,
+            @Value("${app.orders.async.compact-threshold:64MB}") DataSize compactThreshold) {
+        return new FileOrderSubmissionJournal(directory, compactThreshold.toBytes());
+    }
+    
+    @Bean
+    public SubmitOrderUseCase submitOrderUseCase(FileOrderSubmissionJournal orderSubmissionJournal) {
+        return new SubmitOrderUseCase(orderSubmissionJournal);
+    }
+    
+    @Bean
+    public GetOrderSubmissionUseCase getOrderSubmissionUseCase(OrderSubmissionStore orderSubmissionStore,
+                                                               FileOrderSubmissionJournal orderSubmissionJournal) {
+        return new GetOrderSubmissionUseCase(orderSubmissionStore, orderSubmissionJournal);
+    }
+    
+    @Bean
+    public ProcessOrderSubmissionsUseCase processOrderSubmissionsUseCase(OrderRepository orderRepository,
+                                                                         CustomerRepository customerRepository,
+                                                                         OrderSubmissionStore orderSubmissionStore) {
+        return new ProcessOrderSubmissionsUseCase(orderRepository, customerRepository, orderSubmissionStore);
+    }
+    
+    @Bean
+    public OrderSubmissionWriter orderSubmissionWriter(FileOrderSubmissionJournal orderSubmissionJournal,
+                                                       ProcessOrderSubmissionsUseCase processOrderSubmissionsUseCase,
+                                                       PlatformTransactionManager transactionManager,
+                                                       @Value("${app.orders.async.batch-size:1000}") int batchSize) {
+        return new OrderSubmissionWriter(orderSubmissionJournal, processOrderSubmissionsUseCase,
+            new TransactionTemplate(transactionManager), batchSize);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.monolitomodular.infrastructure.config;
+
+import com.example.monolitomodular.infrastructure.outbox.ApplicationEventOutboxSink;
+import com.example.monolitomodular.infrastructure.outbox.FileOutboxSink;
+import com.example.monolitomodular.infrastructure.outbox.JpaOutboxRepository;
+import com.example.monolitomodular.infrastructure.outbox.OutboxLagTracker;
+import com.example.monolitomodular.infrastructure.outbox.OutboxRelay;
+import com.example.monolitomodular.infrastructure.outbox.OutboxSink;
+import com.example.monolitomodular.infrastructure.sse.OrderEventBroadcaster;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+
+@Configuration
+@EnableScheduling
+public class OutboxConfiguration {
+    
+    @Bean
+    @ConditionalOnProperty(name = "app.outbox.sink", havingValue = "in-process", matchIfMissing = true)
+    public OutboxSink applicationEventOutboxSink(ApplicationEventPublisher publisher) {
+        return new ApplicationEventOutboxSink(publisher);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "app.outbox.sink", havingValue = "file")
+    public OutboxSink fileOutboxSink(@Value("${app.outbox.file.path:./target/outbox-events.ndjson}") Path path) {
+        return new FileOutboxSink(path);
+    }
+    
+    @Bean
+    public OutboxLagTracker outboxLagTracker() {
+        return new OutboxLagTracker();
+    }
+    
+    @Bean
+    public OutboxRelay outboxRelay(JpaOutboxRepository repository,
+                                   OutboxSink sink,
+                                   PlatformTransactionManager transactionManager,
+                                   OutboxLagTracker lagTracker,
+                                   @Value("${app.outbox.relay.batch-size:100}") int batchSize,
+                                   @Value("${app.outbox.relay.max-attempts:5}") int maxAttempts) {
+        return new OutboxRelay(repository, sink, new TransactionTemplate(transactionManager), lagTracker,
+            batchSize, maxAttempts);
+    }
+    
+    @Bean
+    public OrderEventBroadcaster orderEventBroadcaster(
+            @Value("${app.orders.events.replay-size:1000}") int replaySize,
+            @Value("${app.orders.events.subscriber-buffer:256}") int bufferSize,
+            @Value("${app.orders.events.timeout:30m}") Duration timeout,
+            @Value("${app.orders.events.sender-threads:4}") int senderThreads) {
+        return new OrderEventBroadcaster(replaySize, bufferSize, timeout, senderThreads);
+    }
+}
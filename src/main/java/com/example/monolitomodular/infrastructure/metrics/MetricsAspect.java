@@ -0,0 +1,55 @@
+package com.example.monolitomodular.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Timers em cada método público dos casos de uso e das portas de repositório do domínio.
+ * A contagem de chamadas (e de falhas, pela tag {@code exception}) vem do próprio timer.
+ */
+@Aspect
+public class MetricsAspect {
+    
+    public static final String USE_CASE_TIMER = "app.usecase";
+    public static final String REPOSITORY_TIMER = "app.repository";
+    
+    private final MeterRegistry registry;
+    
+    public MetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+    
+    @Around("execution(public * com.example.monolitomodular.application..*UseCase.*(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(USE_CASE_TIMER, "usecase", joinPoint);
+    }
+    
+    /**
+     * Casa com as implementações das interfaces *Repository do domínio; a tag {@code repository}
+     * é a classe concreta, separando o decorator de cache do acesso ao banco.
+     */
+    @Around("execution(public * com.example.monolitomodular.domain..*Repository.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, "repository", joinPoint);
+    }
+    
+    private Object time(String name, String typeTag, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(registry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                .tag(typeTag, joinPoint.getTarget().getClass().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("exception", exception)
+                .register(registry));
+        }
+    }
+}
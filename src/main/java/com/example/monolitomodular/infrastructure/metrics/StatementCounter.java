@@ -0,0 +1,26 @@
+package com.example.monolitomodular.infrastructure.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Conta os statements JDBC preparados pelo Hibernate na thread atual. Um lote de
+ * INSERTs (batch) conta como um statement, como nas estatísticas do Hibernate.
+ */
+public class StatementCounter implements StatementInspector {
+    
+    private final ThreadLocal<int[]> count = ThreadLocal.withInitial(() -> new int[1]);
+    
+    @Override
+    public String inspect(String sql) {
+        count.get()[0]++;
+        return sql;
+    }
+    
+    public void reset() {
+        count.get()[0] = 0;
+    }
+    
+    public int current() {
+        return count.get()[0];
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.monolitomodular.infrastructure.outbox;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * Publica cada mensagem como evento do Spring; consumidores usam {@code @EventListener(OutboxMessage.class)}.
+ */
+public class ApplicationEventOutboxSink implements OutboxSink {
+    
+    private final ApplicationEventPublisher publisher;
+    
+    public ApplicationEventOutboxSink(ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+    
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        messages.forEach(publisher::publishEvent);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.monolitomodular.infrastructure.outbox;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Acrescenta as mensagens a um arquivo NDJSON (uma por linha), para testes locais.
+ */
+public class FileOutboxSink implements OutboxSink {
+    
+    private final Path path;
+    private final JsonMapper jsonMapper;
+    
+    public FileOutboxSink(Path path) {
+        this.path = path;
+        this.jsonMapper = new OrderEventCodec().jsonMapper();
+    }
+    
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (OutboxMessage message : messages) {
+                    writer.write(jsonMapper.writeValueAsString(toLine(message)));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar eventos em " + path, e);
+        }
+    }
+    
+    private Map<String, Object> toLine(OutboxMessage message) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("id", message.id());
+        line.put("aggregateId", message.aggregateId());
+        line.put("type", message.type());
+        line.put("createdAt", message.createdAt());
+        line.put("payload", jsonMapper.readTree(message.payload()));
+        return line;
+    }
+}
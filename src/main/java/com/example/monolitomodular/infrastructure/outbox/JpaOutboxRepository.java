@@ -0,0 +1,23 @@
+package com.example.monolitomodular.infrastructure.outbox;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+public interface JpaOutboxRepository extends JpaRepository<OutboxEventEntity, Long> {
+    
+
+    List<OutboxEventEntity> findByParkedAtIsNullOrderByIdAsc(Limit limit);
+    
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEventEntity e WHERE e.parkedAt IS NULL")
+    LocalDateTime findOldestCreatedAt();
+    
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.attempts = :attempts, e.parkedAt = :parkedAt WHERE e.id = :id")
+    int recordFailure(Long id, int attempts, LocalDateTime parkedAt);
+}
@@ -0,0 +1,37 @@
+package com.example.monolitomodular.infrastructure.outbox;
+
+import com.example.monolitomodular.domain.order.OrderCreated;
+import com.example.monolitomodular.domain.order.OrderEvent;
+import com.example.monolitomodular.domain.order.OrderStatusChanged;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Map;
+
+/**
+ * Serialização JSON dos eventos de pedido gravados no outbox.
+ */
+public class OrderEventCodec {
+    
+    private static final Map<String, Class<? extends OrderEvent>> TYPES = Map.of(
+        OrderCreated.class.getSimpleName(), OrderCreated.class,
+        OrderStatusChanged.class.getSimpleName(), OrderStatusChanged.class
+    );
+    
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    
+    public String write(OrderEvent event) {
+        return jsonMapper.writeValueAsString(event);
+    }
+    
+    public OrderEvent read(String type, String payload) {
+        Class<? extends OrderEvent> eventClass = TYPES.get(type);
+        if (eventClass == null) {
+            throw new IllegalArgumentException("Tipo de evento desconhecido: " + type);
+        }
+        return jsonMapper.readValue(payload, eventClass);
+    }
+    
+    JsonMapper jsonMapper() {
+        return jsonMapper;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.monolitomodular.infrastructure.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OutboxEventEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(nullable = false)
+    private Long aggregateId;
+    
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String type;
+    
+    @Column(nullable = false, length = 4000)
+    private String payload;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int attempts;
+    
+    private LocalDateTime parkedAt;
+    
+    public OutboxEventEntity(Long aggregateId, String type, String payload, LocalDateTime createdAt) {
+        this.aggregateId = aggregateId;
+        this.type = type;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.monolitomodular.infrastructure.outbox;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Atraso dos consumidores do outbox. A cada ciclo o relay informa o evento pendente mais
+ * antigo; sem pendências, qualquer evento novo é no máximo tão velho quanto o próprio ciclo.
+ * Enquanto o relay não rodar (ou se parar de rodar), o atraso só cresce.
+ */
+public class OutboxLagTracker implements MeterBinder {
+    
+    private static final Duration UNKNOWN = Duration.ofDays(365);
+    
+    private volatile LocalDateTime reference;
+    
+    public void record(LocalDateTime oldestPending) {
+        this.reference = oldestPending != null ? oldestPending : LocalDateTime.now();
+    }
+    
+    public Duration lag() {
+        LocalDateTime current = reference;
+        if (current == null) {
+            return UNKNOWN;
+        }
+        Duration lag = Duration.between(current, LocalDateTime.now());
+        return lag.isNegative() ? Duration.ZERO : lag;
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.outbox.lag", this, tracker -> tracker.lag().toNanos() / 1_000_000_000.0)
+            .baseUnit("seconds")
+            .register(registry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.monolitomodular.infrastructure.outbox;
+
+import com.example.monolitomodular.domain.order.OrderEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento lido do outbox e entregue aos sinks: envelope (id sequencial, pedido, tipo)
+ * mais o payload JSON e o evento já desserializado.
+ */
+public record OutboxMessage(
+    Long id,
+    Long aggregateId,
+    String type,
+    String payload,
+    LocalDateTime createdAt,
+    OrderEvent event
+) {
+}
@@ -0,0 +1,163 @@
+package com.example.monolitomodular.infrastructure.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Drena o outbox em lotes, em ordem de id: lê, entrega ao sink e apaga na mesma transação.
+ * Se o lote falhar, cada mensagem é entregue na sua própria transação, para que uma mensagem
+ * envenenada não segure as demais. A que falha conta uma tentativa e, após {@code maxAttempts},
+ * é estacionada ({@code parked_at}) e sai da fila. Se nenhuma passar, o sink está fora do ar:
+ * o lote fica intacto para o próximo ciclo, sem contar tentativas.
+ */
+public class OutboxRelay implements MeterBinder {
+    
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    
+    private final JpaOutboxRepository repository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxLagTracker lagTracker;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final OrderEventCodec codec = new OrderEventCodec();
+    
+    private Counter dispatched;
+    private Counter failures;
+    private Counter parked;
+    
+    public OutboxRelay(JpaOutboxRepository repository, OutboxSink sink, TransactionTemplate transactionTemplate,
+                       OutboxLagTracker lagTracker, int batchSize, int maxAttempts) {
+        this.repository = repository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.lagTracker = lagTracker;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+    
+    @Scheduled(fixedDelayString = "${app.outbox.relay.interval:500ms}")
+    public void relay() {
+        try {
+            while (drainBatch() == batchSize) {
+                // lote cheio: provavelmente há mais eventos esperando
+            }
+            lagTracker.record(repository.findOldestCreatedAt());
+        } catch (RuntimeException e) {
+            if (failures != null) {
+                failures.increment();
+            }
+            log.warn("Falha ao despachar eventos do outbox; nova tentativa no próximo ciclo", e);
+        }
+    }
+    
+    /**
+     * Despacha um lote e devolve quantas mensagens saíram da fila (entregues ou estacionadas).
+     */
+    public int drainBatch() {
+        List<OutboxEventEntity> batch = repository.findByParkedAtIsNullOrderByIdAsc(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                sink.publish(batch.stream().map(this::toMessage).toList());
+                repository.deleteAllInBatch(batch);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Lote de {} eventos do outbox falhou; entregando um a um", batch.size(), e);
+            return drainOneByOne(batch, e);
+        }
+        countDispatched(batch.size());
+        return batch.size();
+    }
+    
+    private int drainOneByOne(List<OutboxEventEntity> batch, RuntimeException batchFailure) {
+        Set<Long> blockedAggregates = new HashSet<>();
+        List<OutboxEventEntity> failed = new ArrayList<>();
+        RuntimeException lastFailure = batchFailure;
+        int delivered = 0;
+        for (OutboxEventEntity event : batch) {
+            // Um pedido com evento pendente não pode ter os seguintes entregues antes dele
+            if (blockedAggregates.contains(event.getAggregateId())) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    sink.publish(List.of(toMessage(event)));
+                    repository.deleteAllInBatch(List.of(event));
+                });
+                delivered++;
+            } catch (RuntimeException e) {
+                blockedAggregates.add(event.getAggregateId());
+                failed.add(event);
+                lastFailure = e;
+            }
+        }
+        countDispatched(delivered);
+        if (delivered == 0) {
+            throw lastFailure;
+        }
+        int removed = delivered;
+        for (OutboxEventEntity event : failed) {
+            if (recordFailure(event)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+    
+    /**
+     * Conta a tentativa e estaciona o evento ao atingir {@code maxAttempts}; devolve se estacionou.
+     */
+    private boolean recordFailure(OutboxEventEntity event) {
+        int attempts = event.getAttempts() + 1;
+        boolean park = attempts >= maxAttempts;
+        transactionTemplate.executeWithoutResult(status ->
+            repository.recordFailure(event.getId(), attempts, park ? LocalDateTime.now() : null));
+        if (park) {
+            log.error("Evento {} do outbox ({} do pedido {}) estacionado após {} tentativas",
+                event.getId(), event.getType(), event.getAggregateId(), attempts);
+            if (parked != null) {
+                parked.increment();
+            }
+        }
+        return park;
+    }
+    
+    private void countDispatched(int count) {
+        if (dispatched != null) {
+            dispatched.increment(count);
+        }
+    }
+    
+    private OutboxMessage toMessage(OutboxEventEntity entity) {
+        return new OutboxMessage(
+            entity.getId(),
+            entity.getAggregateId(),
+            entity.getType(),
+            entity.getPayload(),
+            entity.getCreatedAt(),
+            codec.read(entity.getType(), entity.getPayload())
+        );
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        dispatched = Counter.builder("app.outbox.dispatched").register(registry);
+        failures = Counter.builder("app.outbox.failures").register(registry);
+        parked = Counter.builder("app.outbox.parked").register(registry);
+    }
+}
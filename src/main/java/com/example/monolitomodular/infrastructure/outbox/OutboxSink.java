@@ -0,0 +1,12 @@
+package com.example.monolitomodular.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Destino dos eventos drenados do outbox. Uma exceção desfaz o lote, que é reenviado mensagem
+ * a mensagem; a que continuar falhando é estacionada após algumas tentativas (entrega pelo menos uma vez).
+ */
+public interface OutboxSink {
+    
+    void publish(List<OutboxMessage> messages);
+}
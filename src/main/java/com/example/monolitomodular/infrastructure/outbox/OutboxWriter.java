@@ -0,0 +1,33 @@
+package com.example.monolitomodular.infrastructure.outbox;
+
+import com.example.monolitomodular.domain.order.OrderEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Grava eventos no outbox. Exige a transação de quem grava o agregado: evento e mudança
+ * de estado são confirmados (ou desfeitos) juntos.
+ */
+@Component
+public class OutboxWriter {
+    
+    private final JpaOutboxRepository repository;
+    private final OrderEventCodec codec = new OrderEventCodec();
+    
+    public OutboxWriter(JpaOutboxRepository repository) {
+        this.repository = repository;
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Long aggregateId, List<OrderEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        repository.saveAll(events.stream()
+            .map(event -> new OutboxEventEntity(aggregateId, event.type(), codec.write(event), event.occurredAt()))
+            .toList());
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.monolitomodular.infrastructure.persistence.customer;
+
+import com.example.monolitomodular.domain.customer.Customer;
+import com.example.monolitomodular.domain.customer.CustomerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Decorator read-through do CustomerRepository. Mantém clientes em cache por id e o
+ * mapeamento email -> id, com tamanho máximo, TTL e eviction W-TinyLFU (Caffeine).
+ * Escritas passam direto e invalidam as entradas do cliente.
+ */
+public class CachingCustomerRepository implements CustomerRepository, MeterBinder {
+    
+    private final CustomerRepository delegate;
+    private final Cache<Long, Customer> customersById;
+    private final Cache<String, Long> idsByEmail;
+    
+    public CachingCustomerRepository(CustomerRepository delegate, long maximumSize, Duration ttl) {
+        this.delegate = delegate;
+        this.customersById = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        this.idsByEmail = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    }
+    
+    @Override
+    public Customer save(Customer customer) {
+        Customer previous = customer.getId() != null ? customersById.getIfPresent(customer.getId()) : null;
+        Customer saved = delegate.save(customer);
+        invalidate(saved.getId(), previous);
+        idsByEmail.invalidate(saved.getEmail());
+        return saved;
+    }
+    
+    @Override
+    public Optional<Customer> findById(Long id) {
+        Customer cached = customersById.get(id, key -> delegate.findById(key).orElse(null));
+        return Optional.ofNullable(cached).map(this::copy);
+    }
+    
+    @Override
+    public boolean existsById(Long id) {
+        return customersById.getIfPresent(id) != null || delegate.existsById(id);
+    }
+    
+    @Override
+    public boolean existsAllById(Collection<Long> ids) {
+        Set<Long> unknown = new HashSet<>();
+        for (Long id : ids) {
+            if (customersById.getIfPresent(id) == null) {
+                unknown.add(id);
+            }
+        }
+        return unknown.isEmpty() || delegate.existsAllById(unknown);
+    }
+    
+    @Override
+    public Optional<Customer> findByEmail(String email) {
+        Customer cached = cachedByEmail(email);
+        if (cached != null) {
+            return Optional.of(copy(cached));
+        }
+        
+        Optional<Customer> loaded = delegate.findByEmail(email);
+        loaded.ifPresent(this::cache);
+        return loaded;
+    }
+    
+    @Override
+    public List<Customer> findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public boolean existsByEmail(String email) {
+        return cachedByEmail(email) != null || delegate.existsByEmail(email);
+    }
+    
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        Set<Long> existing = new HashSet<>();
+        Set<Long> unknown = new HashSet<>();
+        for (Long id : ids) {
+            if (customersById.getIfPresent(id) != null) {
+                existing.add(id);
+            } else {
+                unknown.add(id);
+            }
+        }
+        existing.addAll(delegate.findExistingIds(unknown));
+        return existing;
+    }
+    
+    @Override
+    public void delete(Long id) {
+        Customer previous = customersById.getIfPresent(id);
+        delegate.delete(id);
+        invalidate(id, previous);
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, customersById, "customers.byId");
+        CaffeineCacheMetrics.monitor(registry, idsByEmail, "customers.byEmail");
+    }
+    
+    private void cache(Customer customer) {
+        customersById.put(customer.getId(), copy(customer));
+        idsByEmail.put(customer.getEmail(), customer.getId());
+    }
+    
+    /**
+     * Só o email conhecido do cliente é removido por chave. Um mapeamento email -> id que sobrar
+     * (cliente já fora do cache por id) é ignorado nas leituras, que conferem o email do cliente.
+     */
+    private void invalidate(Long id, Customer previous) {
+        customersById.invalidate(id);
+        if (previous != null) {
+            idsByEmail.invalidate(previous.getEmail());
+        }
+    }
+    
+    private Customer cachedByEmail(String email) {
+        Long id = idsByEmail.getIfPresent(email);
+        if (id == null) {
+            return null;
+        }
+        Customer cached = customersById.getIfPresent(id);
+        return cached != null && cached.getEmail().equals(email) ? cached : null;
+    }
+    
+    /**
+     * Customer é mutável: o cache nunca entrega a própria instância armazenada.
+     */
+    private Customer copy(Customer customer) {
+        return Customer.reconstitute(
+            customer.getId(),
+            customer.getName(),
+            customer.getEmail(),
+            customer.getPhone(),
+            customer.getVersion()
+        );
+    }
+}
@@ -4,28 +4,37 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 
 @Entity
-@Table(name = "customers")
+@Table(name = "customers", uniqueConstraints = @UniqueConstraint(name = CustomerEntity.EMAIL_CONSTRAINT, columnNames = "email"))
 @Getter
 @Setter
 @NoArgsConstructor
 public class CustomerEntity {
     
+    static final String EMAIL_CONSTRAINT = "uk_customers_email";
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customers_seq")
+    @SequenceGenerator(name = "customers_seq", sequenceName = "customers_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 100)
     private String name;
     
-    @Column(nullable = false, unique = true, length = 100)
+    @Column(nullable = false, length = 100)
     private String email;
     
     @Column(length = 20)
     private String phone;
     
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+    
     public CustomerEntity(String name, String email, String phone) {
         this.name = name;
         this.email = email;
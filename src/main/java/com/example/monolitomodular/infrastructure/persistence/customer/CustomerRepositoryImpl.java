@@ -2,34 +2,91 @@ package com.example.monolitomodular.infrastructure.persistence.customer;
 
 import com.example.monolitomodular.domain.customer.Customer;
 import com.example.monolitomodular.domain.customer.CustomerRepository;
+import com.example.monolitomodular.domain.shared.ConcurrencyConflictException;
+import com.example.monolitomodular.domain.shared.DomainException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 
 @Repository
 public class CustomerRepositoryImpl implements CustomerRepository {
     
+    private static final Logger log = LoggerFactory.getLogger(CustomerRepositoryImpl.class);
+    
     private final JpaCustomerRepository jpaRepository;
+    private final EmailBloomFilter emailFilter;
     
-    public CustomerRepositoryImpl(JpaCustomerRepository jpaRepository) {
+    public CustomerRepositoryImpl(JpaCustomerRepository jpaRepository, EmailBloomFilter emailFilter) {
         this.jpaRepository = jpaRepository;
+        this.emailFilter = emailFilter;
     }
     
     @Override
     public Customer save(Customer customer) {
-        CustomerEntity entity = toEntity(customer);
-        CustomerEntity savedEntity = jpaRepository.save(entity);
+        CustomerEntity entity = customer.getId() == null ? toEntity(customer) : applyChanges(customer);
+        CustomerEntity savedEntity;
+        try {
+            savedEntity = jpaRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            // A constraint unique de email é a garantia final, inclusive quando o filtro é pulado
+            if (isEmailViolation(e)) {
+                throw new DomainException("Email já cadastrado: " + customer.getEmail(), e);
+            }
+            throw e;
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConcurrencyConflictException("Cliente alterado por outra operação: " + customer.getId(), e);
+        }
+        emailFilter.put(savedEntity.getEmail());
         return toDomain(savedEntity);
     }
     
+    private boolean isEmailViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                // H2 e Postgres podem qualificar ou sufixar o nome (ex.: PUBLIC.UK_CUSTOMERS_EMAIL_INDEX_5)
+                String name = violation.getConstraintName();
+                return name != null && name.toLowerCase(Locale.ROOT).contains(CustomerEntity.EMAIL_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+    
     @Override
     public Optional<Customer> findById(Long id) {
         return jpaRepository.findById(id)
             .map(this::toDomain);
     }
     
+    @Override
+    public boolean existsById(Long id) {
+        return jpaRepository.probeById(id).isPresent();
+    }
+    
+    @Override
+    public boolean existsAllById(Collection<Long> ids) {
+        Set<Long> distinctIds = new HashSet<>(ids);
+        if (distinctIds.isEmpty()) {
+            return true;
+        }
+        return jpaRepository.countByIdIn(distinctIds) == distinctIds.size();
+    }
+    
     @Override
     public Optional<Customer> findByEmail(String email) {
         return jpaRepository.findByEmail(email)
@@ -45,7 +102,22 @@ public class CustomerRepositoryImpl implements CustomerRepository {
     
     @Override
     public boolean existsByEmail(String email) {
-        return jpaRepository.existsByEmail(email);
+        if (!emailFilter.mightContain(email)) {
+            return false;
+        }
+        boolean exists = jpaRepository.existsByEmail(email);
+        if (!exists && emailFilter.isLoaded()) {
+            emailFilter.recordFalsePositive();
+        }
+        return exists;
+    }
+    
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaRepository.findExistingIds(ids));
     }
     
     @Override
@@ -53,15 +125,44 @@ public class CustomerRepositoryImpl implements CustomerRepository {
         jpaRepository.deleteById(id);
     }
 
+    /**
+     * Carrega o Bloom filter com os emails já cadastrados. Até terminar, existsByEmail
+     * consulta sempre o banco.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadEmailFilter() {
+        long count = 0;
+        try (Stream<String> emails = jpaRepository.streamAllEmails()) {
+            for (Iterator<String> it = emails.iterator(); it.hasNext(); count++) {
+                emailFilter.put(it.next());
+            }
+        }
+        emailFilter.markLoaded();
+        log.info("Filtro de emails carregado com {} emails", count);
+    }
+
     private CustomerEntity toEntity(Customer customer) {
-        CustomerEntity entity = new CustomerEntity(
+        return new CustomerEntity(
             customer.getName(),
             customer.getEmail(),
             customer.getPhone()
         );
-        if (customer.getId() != null) {
-            entity.setId(customer.getId());
+    }
+    
+    /**
+     * Parte da linha atual; o merge no saveAndFlush compara a versão de novo, então uma
+     * alteração concorrente entre esta leitura e o UPDATE também é detectada.
+     */
+    private CustomerEntity applyChanges(Customer customer) {
+        CustomerEntity entity = jpaRepository.findById(customer.getId())
+            .orElseThrow(() -> new DomainException("Cliente não encontrado: " + customer.getId()));
+        if (customer.getVersion() != null && !customer.getVersion().equals(entity.getVersion())) {
+            throw new ConcurrencyConflictException("Cliente alterado por outra operação: " + customer.getId());
         }
+        entity.setName(customer.getName());
+        entity.setEmail(customer.getEmail());
+        entity.setPhone(customer.getPhone());
         return entity;
     }
     
@@ -73,7 +174,8 @@ public class CustomerRepositoryImpl implements CustomerRepository {
             entity.getId(),
             entity.getName(),
             entity.getEmail(),
-            entity.getPhone()
+            entity.getPhone(),
+            entity.getVersion()
         );
     }
 }
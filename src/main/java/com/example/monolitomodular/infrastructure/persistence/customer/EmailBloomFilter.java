@@ -0,0 +1,139 @@
+package com.example.monolitomodular.infrastructure.persistence.customer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bloom filter dos emails cadastrados. Uma resposta negativa é definitiva (o email
+ * certamente não existe); uma positiva precisa ser confirmada no banco. Enquanto não
+ * for carregado ({@link #markLoaded()}), responde sempre "talvez".
+ */
+public class EmailBloomFilter implements MeterBinder {
+    
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final double expectedFalsePositiveRate;
+    
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder positives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    
+    private volatile boolean loaded;
+    
+    public EmailBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Parâmetros inválidos para o Bloom filter");
+        }
+        long bitsNeeded = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((bitsNeeded + 63) / 64));
+        this.bitCount = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.expectedFalsePositiveRate = falsePositiveRate;
+    }
+    
+    public void put(String email) {
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            setBit(index);
+        }
+    }
+    
+    public boolean mightContain(String email) {
+        if (!loaded) {
+            return true;
+        }
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            if (!getBit(index)) {
+                negatives.increment();
+                return false;
+            }
+        }
+        positives.increment();
+        return true;
+    }
+    
+    /**
+     * Registra que um "talvez" do filtro foi desmentido pelo banco.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+    
+    public void markLoaded() {
+        this.loaded = true;
+    }
+    
+    public boolean isLoaded() {
+        return loaded;
+    }
+    
+    public double observedFalsePositiveRate() {
+        long probes = negatives.sum() + positives.sum();
+        return probes == 0 ? 0.0 : (double) falsePositives.sum() / probes;
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("customers.email.filter.probes", negatives, LongAdder::sum)
+            .tag("result", "negative")
+            .description("Consultas respondidas pelo filtro sem ir ao banco")
+            .register(registry);
+        FunctionCounter.builder("customers.email.filter.probes", positives, LongAdder::sum)
+            .tag("result", "positive")
+            .description("Consultas que precisaram ser confirmadas no banco")
+            .register(registry);
+        FunctionCounter.builder("customers.email.filter.false.positives", falsePositives, LongAdder::sum)
+            .register(registry);
+        Gauge.builder("customers.email.filter.false.positive.rate", this, EmailBloomFilter::observedFalsePositiveRate)
+            .description("Falsos positivos / consultas ao filtro")
+            .register(registry);
+        Gauge.builder("customers.email.filter.expected.false.positive.rate", () -> expectedFalsePositiveRate)
+            .register(registry);
+    }
+    
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+    
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+    
+    /**
+     * FNV-1a de 64 bits seguido do finalizador do MurmurHash3.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.monolitomodular.infrastructure.persistence.customer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 
 public interface JpaCustomerRepository extends JpaRepository<CustomerEntity, Long> {
@@ -12,4 +16,16 @@ public interface JpaCustomerRepository extends JpaRepository<CustomerEntity, Lon
     
 
     boolean existsByEmail(String email);
+    
+    @Query("SELECT c.email FROM CustomerEntity c")
+    Stream<String> streamAllEmails();
+    
+    @Query("SELECT 1 FROM CustomerEntity c WHERE c.id = :id")
+    Optional<Integer> probeById(Long id);
+    
+    @Query("SELECT COUNT(c.id) FROM CustomerEntity c WHERE c.id IN :ids")
+    long countByIdIn(Collection<Long> ids);
+    
+    @Query("SELECT c.id FROM CustomerEntity c WHERE c.id IN :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
 }
@@ -0,0 +1,287 @@
+package com.example.monolitomodular.infrastructure.persistence.order;
+
+import com.example.monolitomodular.domain.order.CustomerOrderStats;
+import com.example.monolitomodular.domain.order.Order;
+import com.example.monolitomodular.domain.order.OrderRepository;
+import com.example.monolitomodular.domain.order.OrderStatus;
+import com.example.monolitomodular.domain.order.OrderSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorator do OrderRepository que agrupa os INSERTs de pedidos novos vindos de
+ * requisições concorrentes (group commit). Cada save entra numa fila; um writer junta o
+ * que chegar em até {@code maxWait} (ou {@code maxBatchSize} pedidos) e grava tudo com
+ * um saveAll, numa transação. Se o lote falhar, cada pedido é regravado sozinho e só
+ * quem falhou de novo recebe o erro.
+ * Atualizações, leituras e chamadas feitas com transação ou EntityManager já abertos na
+ * thread (open-in-view) vão direto ao delegate: quem espera o lote segurando uma conexão
+ * pode esgotar o pool que o writer precisa.
+ */
+public class CoalescingOrderRepository implements OrderRepository, MeterBinder, DisposableBean {
+    
+    private static final Logger log = LoggerFactory.getLogger(CoalescingOrderRepository.class);
+    private static final long IDLE_POLL_MILLIS = 100;
+    
+    private final OrderRepository delegate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final BlockingQueue<PendingInsert> queue;
+    private final List<Thread> writers = new ArrayList<>();
+    
+    private volatile boolean running = true;
+    private DistributionSummary batchSizes;
+    private Counter fallbacks;
+    
+    public CoalescingOrderRepository(OrderRepository delegate, EntityManagerFactory entityManagerFactory,
+                                     int maxBatchSize, Duration maxWait, int writerThreads, int queueCapacity) {
+        if (maxBatchSize <= 0 || writerThreads <= 0) {
+            throw new IllegalArgumentException("maxBatchSize e writerThreads devem ser positivos");
+        }
+        this.delegate = delegate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        for (int i = 0; i < writerThreads; i++) {
+            Thread writer = new Thread(this::runWriter, "order-coalescer-" + i);
+            writer.setDaemon(true);
+            writer.start();
+            writers.add(writer);
+        }
+    }
+    
+    @Override
+    public Order save(Order order) {
+        if (order.getId() != null || !running || holdsConnection()) {
+            return delegate.save(order);
+        }
+        PendingInsert pending = new PendingInsert(order, System.nanoTime());
+        if (!queue.offer(pending)) {
+            // Fila cheia: grava na thread de quem chamou
+            return delegate.save(order);
+        }
+        if (!running && queue.remove(pending)) {
+            return delegate.save(order);
+        }
+        try {
+            return pending.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        return delegate.saveAll(orders);
+    }
+    
+    @Override
+    public Optional<Order> findById(Long id) {
+        return delegate.findById(id);
+    }
+    
+    @Override
+    public List<Order> findByCustomerId(Long customerId) {
+        return delegate.findByCustomerId(customerId);
+    }
+    
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return delegate.findVersionById(id);
+    }
+    
+    @Override
+    public List<Order> findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public List<Order> findPage(Long afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+    
+    @Override
+    public List<Order> findPage(Long afterId, int limit, BigDecimal minTotal, BigDecimal maxTotal) {
+        return delegate.findPage(afterId, limit, minTotal, maxTotal);
+    }
+    
+    @Override
+    public List<Order> findTopByTotal(int limit) {
+        return delegate.findTopByTotal(limit);
+    }
+    
+    @Override
+    public List<OrderSummary> findSummaries(Long afterId, int limit) {
+        return delegate.findSummaries(afterId, limit);
+    }
+    
+    @Override
+    public List<OrderSummary> findSummaries(Long afterId, int limit, BigDecimal minTotal, BigDecimal maxTotal) {
+        return delegate.findSummaries(afterId, limit, minTotal, maxTotal);
+    }
+    
+    @Override
+    public List<OrderSummary> findSummariesByCustomerId(Long customerId) {
+        return delegate.findSummariesByCustomerId(customerId);
+    }
+    
+    @Override
+    public boolean transition(Long id, Set<OrderStatus> from, OrderStatus to) {
+        return delegate.transition(id, from, to);
+    }
+    
+    @Override
+    public List<Order> claim(OrderStatus from, OrderStatus to, int limit) {
+        return delegate.claim(from, to, limit);
+    }
+    
+    @Override
+    public BigDecimal sumRevenue(LocalDateTime from, LocalDateTime to) {
+        return delegate.sumRevenue(from, to);
+    }
+    
+    @Override
+    public Map<OrderStatus, Long> countByStatus() {
+        return delegate.countByStatus();
+    }
+    
+    @Override
+    public List<CustomerOrderStats> findTopCustomersByRevenue(LocalDateTime from, LocalDateTime to, int limit) {
+        return delegate.findTopCustomersByRevenue(from, to, limit);
+    }
+    
+    @Override
+    public void delete(Long id) {
+        delegate.delete(id);
+    }
+    
+    private boolean holdsConnection() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+            || (entityManagerFactory != null && TransactionSynchronizationManager.hasResource(entityManagerFactory));
+    }
+    
+    private void runWriter() {
+        List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingInsert first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch, first.enqueuedAt + maxWaitNanos);
+            } catch (InterruptedException e) {
+                // O que sobrar na fila é gravado pelos outros writers ou no destroy
+                Thread.currentThread().interrupt();
+                flush(batch);
+                return;
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+    
+    private void collect(List<PendingInsert> batch, long deadline) throws InterruptedException {
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() == maxBatchSize || remaining <= 0) {
+                return;
+            }
+            PendingInsert next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+    
+    private void flush(List<PendingInsert> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (batchSizes != null) {
+            batchSizes.record(batch.size());
+        }
+        List<Order> saved;
+        try {
+            saved = delegate.saveAll(batch.stream().map(PendingInsert::order).toList());
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result.completeExceptionally(e);
+                return;
+            }
+            // Lote desfeito: regrava um a um para isolar o pedido com problema
+            log.debug("Lote de {} pedidos falhou; gravando individualmente", batch.size(), e);
+            if (fallbacks != null) {
+                fallbacks.increment();
+            }
+            batch.forEach(this::saveAlone);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result.complete(saved.get(i));
+        }
+    }
+    
+    private void saveAlone(PendingInsert pending) {
+        try {
+            pending.result.complete(delegate.save(pending.order));
+        } catch (RuntimeException e) {
+            pending.result.completeExceptionally(e);
+        }
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        batchSizes = DistributionSummary.builder("app.orders.coalescer.batch-size").register(registry);
+        fallbacks = Counter.builder("app.orders.coalescer.fallbacks").register(registry);
+    }
+    
+    /**
+     * Para os writers depois de gravar o que estiver na fila.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        for (Thread writer : writers) {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        List<PendingInsert> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(this::saveAlone);
+    }
+    
+    private record PendingInsert(Order order, long enqueuedAt, CompletableFuture<Order> result) {
+    
+        PendingInsert(Order order, long enqueuedAt) {
+            this(order, enqueuedAt, new CompletableFuture<>());
+        }
+    }
+}
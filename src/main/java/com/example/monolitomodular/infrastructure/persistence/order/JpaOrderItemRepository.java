@@ -0,0 +1,15 @@
+package com.example.monolitomodular.infrastructure.persistence.order;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+
+public interface JpaOrderItemRepository extends JpaRepository<OrderItemEntity, Long> {
+    
+
+    @Query("SELECT i FROM OrderItemEntity i WHERE i.order.id IN :orderIds ORDER BY i.id")
+    List<OrderItemEntity> findByOrderIdIn(Collection<Long> orderIds);
+}
@@ -1,10 +1,22 @@
 package com.example.monolitomodular.infrastructure.persistence.order;
 
+import com.example.monolitomodular.domain.order.CustomerOrderStats;
 import com.example.monolitomodular.domain.order.OrderStatus;
+import com.example.monolitomodular.domain.order.OrderSummary;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 
 public interface JpaOrderRepository extends JpaRepository<OrderEntity, Long> {
@@ -13,8 +25,80 @@ public interface JpaOrderRepository extends JpaRepository<OrderEntity, Long> {
     List<OrderEntity> findByCustomerId(Long customerId);
     
 
-    List<OrderEntity> findByStatus(OrderStatus status);
+    /**
+     * SELECT ... FOR UPDATE SKIP LOCKED (lock timeout -2): linhas travadas por outra
+     * transação ficam de fora em vez de bloquear. Em bancos sem SKIP LOCKED o Hibernate
+     * gera um FOR UPDATE simples.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OrderEntity o WHERE o.status = :status ORDER BY o.id")
+    List<OrderEntity> findClaimable(OrderStatus status, Limit limit);
+    
+    @Query("SELECT o.id FROM OrderEntity o WHERE o.status = :status ORDER BY o.id")
+    List<Long> findIdsByStatus(OrderStatus status, Limit limit);
+    
+
+    List<OrderEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    
+    @Query("SELECT o FROM OrderEntity o WHERE o.id > :after "
+        + "AND (:minTotal IS NULL OR o.totalAmount >= :minTotal) "
+        + "AND (:maxTotal IS NULL OR o.totalAmount <= :maxTotal) "
+        + "ORDER BY o.id")
+    List<OrderEntity> findPageByTotal(Long after, BigDecimal minTotal, BigDecimal maxTotal, Limit limit);
+    
+
+    List<OrderEntity> findAllByOrderByTotalAmountDescIdAsc(Limit limit);
+    
+    @Query("SELECT new com.example.monolitomodular.domain.order.OrderSummary("
+        + "o.id, o.customerId, o.createdAt, o.status, o.itemCount, o.totalAmount) "
+        + "FROM OrderEntity o WHERE o.id > :after ORDER BY o.id")
+    List<OrderSummary> findSummaries(Long after, Limit limit);
+    
+    @Query("SELECT new com.example.monolitomodular.domain.order.OrderSummary("
+        + "o.id, o.customerId, o.createdAt, o.status, o.itemCount, o.totalAmount) "
+        + "FROM OrderEntity o WHERE o.id > :after "
+        + "AND (:minTotal IS NULL OR o.totalAmount >= :minTotal) "
+        + "AND (:maxTotal IS NULL OR o.totalAmount <= :maxTotal) "
+        + "ORDER BY o.id")
+    List<OrderSummary> findSummariesByTotal(Long after, BigDecimal minTotal, BigDecimal maxTotal, Limit limit);
+    
+    @Query("SELECT new com.example.monolitomodular.domain.order.OrderSummary("
+        + "o.id, o.customerId, o.createdAt, o.status, o.itemCount, o.totalAmount) "
+        + "FROM OrderEntity o WHERE o.customerId = :customerId ORDER BY o.id")
+    List<OrderSummary> findSummariesByCustomerId(Long customerId);
+    
+    @Query("SELECT o.version FROM OrderEntity o WHERE o.id = :id")
+    Optional<Long> findVersionById(Long id);
     
     @Query("SELECT o FROM OrderEntity o LEFT JOIN FETCH o.items WHERE o.id = :id")
     OrderEntity findByIdWithItems(Long id);
+    
+    @Modifying
+    @Query("UPDATE OrderEntity o SET o.status = :to, o.version = o.version + 1 "
+        + "WHERE o.id = :id AND o.status IN :from")
+    int updateStatus(Long id, Collection<OrderStatus> from, OrderStatus to);
+    
+    @Modifying
+    @Query("UPDATE OrderEntity o SET o.status = :to, o.version = o.version + 1 "
+        + "WHERE o.id = :id AND o.status IN :from "
+        + "AND EXISTS (SELECT 1 FROM OrderItemEntity i WHERE i.order = o)")
+    int updateStatusIfHasItems(Long id, Collection<OrderStatus> from, OrderStatus to);
+    
+    @Query("SELECT COALESCE(SUM(o.totalAmount), 0) FROM OrderEntity o "
+        + "WHERE o.status <> :excluded "
+        + "AND (:from IS NULL OR o.createdAt >= :from) AND (:to IS NULL OR o.createdAt < :to)")
+    BigDecimal sumRevenue(OrderStatus excluded, LocalDateTime from, LocalDateTime to);
+    
+    @Query("SELECT o.status, COUNT(o) FROM OrderEntity o GROUP BY o.status")
+    List<Object[]> countGroupedByStatus();
+    
+    @Query("SELECT new com.example.monolitomodular.domain.order.CustomerOrderStats("
+        + "o.customerId, COUNT(o), COALESCE(SUM(o.totalAmount), 0)) "
+        + "FROM OrderEntity o "
+        + "WHERE o.status <> :excluded "
+        + "AND (:from IS NULL OR o.createdAt >= :from) AND (:to IS NULL OR o.createdAt < :to) "
+        + "GROUP BY o.customerId ORDER BY SUM(o.totalAmount) DESC")
+    List<CustomerOrderStats> findTopCustomersByRevenue(OrderStatus excluded, LocalDateTime from,
+                                                       LocalDateTime to, Limit limit);
 }
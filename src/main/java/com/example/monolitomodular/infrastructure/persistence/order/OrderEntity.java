@@ -5,21 +5,31 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_customer_id", columnList = "customer_id"),
+    @Index(name = "idx_orders_status", columnList = "status, id"),
+    @Index(name = "idx_orders_created_at", columnList = "created_at"),
+    @Index(name = "idx_orders_total_amount", columnList = "total_amount")
+})
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
 public class OrderEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -32,6 +42,19 @@ public class OrderEntity {
     @Column(nullable = false, length = 20)
     private OrderStatus status;
     
+    // Desnormalizados: mantidos pelo OrderRepositoryImpl a cada save
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+    
+    @Column(nullable = false)
+    private Integer itemCount = 0;
+    
+    // Incrementada a cada UPDATE (inclusive pelas transições de status em JPQL)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+    
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItemEntity> items = new ArrayList<>();
     
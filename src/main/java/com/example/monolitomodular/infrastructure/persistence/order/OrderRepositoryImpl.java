@@ -1,29 +1,111 @@
 package com.example.monolitomodular.infrastructure.persistence.order;
 
+import com.example.monolitomodular.domain.order.CustomerOrderStats;
 import com.example.monolitomodular.domain.order.Order;
 import com.example.monolitomodular.domain.order.OrderItem;
 import com.example.monolitomodular.domain.order.OrderRepository;
+import com.example.monolitomodular.domain.order.OrderStatus;
+import com.example.monolitomodular.domain.order.OrderStatusChanged;
+import com.example.monolitomodular.domain.order.OrderSummary;
+import com.example.monolitomodular.domain.shared.ConcurrencyConflictException;
+import com.example.monolitomodular.domain.shared.DomainException;
+import com.example.monolitomodular.infrastructure.outbox.OutboxWriter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 
 @Repository
 public class OrderRepositoryImpl implements OrderRepository {
     
+    private static final Logger log = LoggerFactory.getLogger(OrderRepositoryImpl.class);
+    
+    private static final int ITEM_BATCH_SIZE = 500;
+    private static final int CLAIM_CANDIDATES_PER_ORDER = 4;
+    
     private final JpaOrderRepository jpaRepository;
+    private final JpaOrderItemRepository itemRepository;
+    private final OutboxWriter outboxWriter;
+    private final EntityManagerFactory entityManagerFactory;
     
-    public OrderRepositoryImpl(JpaOrderRepository jpaRepository) {
+    private volatile Boolean skipLockedRespectsLimit;
+    
+    public OrderRepositoryImpl(JpaOrderRepository jpaRepository,
+                               JpaOrderItemRepository itemRepository,
+                               OutboxWriter outboxWriter,
+                               EntityManagerFactory entityManagerFactory) {
         this.jpaRepository = jpaRepository;
+        this.itemRepository = itemRepository;
+        this.outboxWriter = outboxWriter;
+        this.entityManagerFactory = entityManagerFactory;
     }
     
     @Override
+    @Transactional
     public Order save(Order order) {
-        OrderEntity entity = toEntity(order);
-        OrderEntity savedEntity = jpaRepository.save(entity);
-        return toDomain(savedEntity);
+        if (order.getId() == null) {
+            Order saved = insert(order);
+            flush();
+            return saved;
+        }
+        
+        OrderEntity entity = jpaRepository.findByIdWithItems(order.getId());
+        if (entity == null) {
+            throw new DomainException("Pedido não encontrado: " + order.getId());
+        }
+        // Pedido lido em outra transação: a versão lida tem que ser a atual. Alterações
+        // concorrentes depois deste SELECT são pegas pelo "WHERE version = ?" do UPDATE.
+        if (order.getVersion() != null && !order.getVersion().equals(entity.getVersion())) {
+            throw conflict(order.getId(), null);
+        }
+        
+        applyChanges(order, entity);
+        outboxWriter.append(entity.getId(), order.pullEvents());
+        try {
+            flush();
+        } catch (OptimisticLockingFailureException e) {
+            throw conflict(order.getId(), e);
+        }
+        return toDomain(entity);
+    }
+    
+    @Override
+    @Transactional
+    public List<Order> saveAll(List<Order> orders) {
+        List<Order> saved = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            if (order.getId() == null) {
+                saved.add(insert(order));
+            } else {
+                saved.add(save(order));
+            }
+        }
+        flush();
+        return saved;
     }
     
     @Override
@@ -33,17 +115,172 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
     
     @Override
+    public Optional<Long> findVersionById(Long id) {
+        return jpaRepository.findVersionById(id);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
     public List<Order> findByCustomerId(Long customerId) {
-        return jpaRepository.findByCustomerId(customerId).stream()
-            .map(this::toDomain)
-            .toList();
+        return toDomainWithItems(jpaRepository.findByCustomerId(customerId));
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<Order> findAll() {
-        return jpaRepository.findAll().stream()
-            .map(this::toDomain)
-            .toList();
+        return toDomainWithItems(jpaRepository.findAll());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Order> findPage(Long afterId, int limit) {
+        long cursor = afterId != null ? afterId : 0L;
+        return toDomainWithItems(jpaRepository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(limit)));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Order> findPage(Long afterId, int limit, BigDecimal minTotal, BigDecimal maxTotal) {
+        if (minTotal == null && maxTotal == null) {
+            return findPage(afterId, limit);
+        }
+        long cursor = afterId != null ? afterId : 0L;
+        return toDomainWithItems(jpaRepository.findPageByTotal(cursor, minTotal, maxTotal, Limit.of(limit)));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Order> findTopByTotal(int limit) {
+        return toDomainWithItems(jpaRepository.findAllByOrderByTotalAmountDescIdAsc(Limit.of(limit)));
+    }
+    
+    @Override
+    public List<OrderSummary> findSummaries(Long afterId, int limit) {
+        long cursor = afterId != null ? afterId : 0L;
+        return jpaRepository.findSummaries(cursor, Limit.of(limit));
+    }
+    
+    @Override
+    public List<OrderSummary> findSummaries(Long afterId, int limit, BigDecimal minTotal, BigDecimal maxTotal) {
+        if (minTotal == null && maxTotal == null) {
+            return findSummaries(afterId, limit);
+        }
+        long cursor = afterId != null ? afterId : 0L;
+        return jpaRepository.findSummariesByTotal(cursor, minTotal, maxTotal, Limit.of(limit));
+    }
+    
+    @Override
+    public List<OrderSummary> findSummariesByCustomerId(Long customerId) {
+        return jpaRepository.findSummariesByCustomerId(customerId);
+    }
+    
+    @Override
+    @Transactional
+    public boolean transition(Long id, Set<OrderStatus> from, OrderStatus to) {
+        int updated = to.requiresItems()
+            ? jpaRepository.updateStatusIfHasItems(id, from, to)
+            : jpaRepository.updateStatus(id, from, to);
+        if (updated != 1) {
+            return false;
+        }
+        outboxWriter.append(id, List.of(new OrderStatusChanged(to, LocalDateTime.now())));
+        return true;
+    }
+    
+    @Override
+    @Transactional
+    public List<Order> claim(OrderStatus from, OrderStatus to, int limit) {
+        if (!skipLockedRespectsLimit()) {
+            return claimWithConditionalUpdates(from, to, limit);
+        }
+        List<OrderEntity> claimed = jpaRepository.findClaimable(from, Limit.of(limit));
+        if (claimed.isEmpty()) {
+            return List.of();
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        for (OrderEntity entity : claimed) {
+            entity.setStatus(to);
+            outboxWriter.append(entity.getId(), List.of(new OrderStatusChanged(to, now)));
+        }
+        try {
+            // UPDATEs em batch com "WHERE version = ?": sem SKIP LOCKED (H2), duas chamadas
+            // podem ler o mesmo pedido e a segunda falha aqui em vez de reivindicá-lo de novo
+            jpaRepository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConcurrencyConflictException("Pedidos reivindicados por outra operação", e);
+        }
+        return toDomainWithItems(claimed);
+    }
+    
+    /**
+     * Alternativa para o H2, que aplica o FETCH FIRST antes de pular as linhas travadas: um
+     * segundo consumidor receberia só linhas já travadas e voltaria vazio. Aqui cada pedido
+     * de uma janela de candidatos é reivindicado com o UPDATE condicional de transition.
+     * Cada chamada começa num ponto aleatório da janela (em ordem de id, para consumidores
+     * concorrentes não se travarem em ordens opostas); um deadlock vira conflito e a
+     * chamada pode ser repetida.
+     */
+    private List<Order> claimWithConditionalUpdates(OrderStatus from, OrderStatus to, int limit) {
+        List<Long> candidates = new ArrayList<>(
+            jpaRepository.findIdsByStatus(from, Limit.of(limit * CLAIM_CANDIDATES_PER_ORDER)));
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        Collections.rotate(candidates, -ThreadLocalRandom.current().nextInt(candidates.size()));
+        
+        Set<OrderStatus> fromStatus = EnumSet.of(from);
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> claimed = new ArrayList<>(limit);
+        try {
+            for (Long id : candidates) {
+                if (claimed.size() == limit) {
+                    break;
+                }
+                if (jpaRepository.updateStatus(id, fromStatus, to) == 1) {
+                    claimed.add(id);
+                    outboxWriter.append(id, List.of(new OrderStatusChanged(to, now)));
+                }
+            }
+        } catch (PessimisticLockingFailureException e) {
+            throw new ConcurrencyConflictException("Pedidos reivindicados por outra operação", e);
+        }
+        if (claimed.isEmpty()) {
+            return List.of();
+        }
+        
+        List<OrderEntity> entities = new ArrayList<>(jpaRepository.findAllById(claimed));
+        entities.sort(Comparator.comparing(OrderEntity::getId));
+        return toDomainWithItems(entities);
+    }
+    
+    private boolean skipLockedRespectsLimit() {
+        Boolean respects = skipLockedRespectsLimit;
+        if (respects == null) {
+            respects = !(entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof H2Dialect);
+            skipLockedRespectsLimit = respects;
+        }
+        return respects;
+    }
+    
+    @Override
+    public BigDecimal sumRevenue(LocalDateTime from, LocalDateTime to) {
+        return jpaRepository.sumRevenue(OrderStatus.CANCELLED, from, to);
+    }
+    
+    @Override
+    public Map<OrderStatus, Long> countByStatus() {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (Object[] row : jpaRepository.countGroupedByStatus()) {
+            counts.put((OrderStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+    
+    @Override
+    public List<CustomerOrderStats> findTopCustomersByRevenue(LocalDateTime from, LocalDateTime to, int limit) {
+        return jpaRepository.findTopCustomersByRevenue(OrderStatus.CANCELLED, from, to, Limit.of(limit));
     }
     
     @Override
@@ -51,8 +288,71 @@ public class OrderRepositoryImpl implements OrderRepository {
         jpaRepository.deleteById(id);
     }
     
+    private ConcurrencyConflictException conflict(Long id, Throwable cause) {
+        return new ConcurrencyConflictException("Pedido alterado por outra operação: " + id, cause);
+    }
+    
+    private Order insert(Order order) {
+        OrderEntity savedEntity = jpaRepository.save(toEntity(order));
+        outboxWriter.append(savedEntity.getId(), order.pullEvents());
+        return toDomain(savedEntity);
+    }
+    
+    /**
+     * Força os INSERTs/UPDATEs aqui, e não no commit, para traduzir a violação de constraint
+     * (valor maior que a coluna, por exemplo). A mensagem do banco traz SQL e valores: vai só
+     * para o log.
+     */
+    private void flush() {
+        try {
+            jpaRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Pedido recusado pelo banco", e);
+            throw new DomainException("Pedido com valores fora dos limites aceitos", e);
+        }
+    }
+    
 
-    private OrderEntity toEntity(Order order) {
+    /**
+     * Aplica o estado do agregado sobre a entidade gerenciada. O dirty checking do
+     * Hibernate (com @DynamicUpdate) só emite UPDATE das colunas que mudaram, e só
+     * itens novos, alterados ou removidos geram SQL.
+     */
+    private void applyChanges(Order order, OrderEntity entity) {
+        entity.setCustomerId(order.getCustomerId());
+        entity.setCreatedAt(order.getCreatedAt());
+        entity.setStatus(order.getStatus());
+        entity.setTotalAmount(order.calculateTotal());
+        entity.setItemCount(order.getItemCount());
+        
+        Map<Long, OrderItem> itemsById = new HashMap<>();
+        order.getItems().forEach(item -> {
+            if (item.getId() != null) {
+                itemsById.put(item.getId(), item);
+            }
+        });
+        
+        entity.getItems().removeIf(itemEntity -> !itemsById.containsKey(itemEntity.getId()));
+        
+        Set<Long> existingIds = new HashSet<>();
+        entity.getItems().forEach(itemEntity -> {
+            OrderItem item = itemsById.get(itemEntity.getId());
+            itemEntity.setProductName(item.getProductName());
+            itemEntity.setQuantity(item.getQuantity());
+            itemEntity.setUnitPrice(item.getUnitPrice());
+            existingIds.add(itemEntity.getId());
+        });
+        
+        order.getItems().stream()
+            .filter(item -> item.getId() == null || !existingIds.contains(item.getId()))
+            .forEach(item -> entity.addItem(new OrderItemEntity(
+                item.getProductName(),
+                item.getQuantity(),
+                item.getUnitPrice()
+            )));
+    }
+    
+    OrderEntity toEntity(Order order) {
         OrderEntity entity = new OrderEntity(
             order.getCustomerId(),
             order.getCreatedAt(),
@@ -62,6 +362,8 @@ public class OrderRepositoryImpl implements OrderRepository {
         if (order.getId() != null) {
             entity.setId(order.getId());
         }
+        entity.setTotalAmount(order.calculateTotal());
+        entity.setItemCount(order.getItemCount());
         
         order.getItems().forEach(item -> {
             OrderItemEntity itemEntity = new OrderItemEntity(
@@ -79,8 +381,36 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
     
 
-    private Order toDomain(OrderEntity entity) {
-        List<OrderItem> items = entity.getItems().stream()
+    /**
+     * Carrega os itens de vários pedidos com uma consulta IN por lote, em vez de
+     * inicializar a coleção LAZY de cada pedido (N+1).
+     */
+    private List<Order> toDomainWithItems(List<OrderEntity> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        
+        List<Long> ids = entities.stream().map(OrderEntity::getId).toList();
+        List<OrderItemEntity> items = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += ITEM_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + ITEM_BATCH_SIZE, ids.size()));
+            items.addAll(itemRepository.findByOrderIdIn(batch));
+        }
+        
+        Map<Long, List<OrderItemEntity>> itemsByOrder = items.stream()
+            .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
+        
+        return entities.stream()
+            .map(entity -> toDomain(entity, itemsByOrder.getOrDefault(entity.getId(), List.of())))
+            .toList();
+    }
+    
+    Order toDomain(OrderEntity entity) {
+        return toDomain(entity, entity.getItems());
+    }
+    
+    private Order toDomain(OrderEntity entity, List<OrderItemEntity> itemEntities) {
+        List<OrderItem> items = itemEntities.stream()
             .map(itemEntity -> OrderItem.reconstitute(
                 itemEntity.getId(),
                 itemEntity.getProductName(),
@@ -94,7 +424,9 @@ public class OrderRepositoryImpl implements OrderRepository {
             entity.getCustomerId(),
             entity.getCreatedAt(),
             entity.getStatus(),
-            items
+            items,
+            entity.getTotalAmount(),
+            entity.getVersion()
         );
     }
 }
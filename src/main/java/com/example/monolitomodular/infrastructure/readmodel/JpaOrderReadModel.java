@@ -0,0 +1,101 @@
+package com.example.monolitomodular.infrastructure.readmodel;
+
+import com.example.monolitomodular.application.order.OrderReadModel;
+import com.example.monolitomodular.application.order.dto.OrderResponse;
+import com.example.monolitomodular.infrastructure.outbox.OutboxLagTracker;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Modelo de leitura em tabela própria (order_views). O atraso é o do outbox, de onde vêm
+ * as atualizações; até a carga inicial terminar ({@link #markReady()}) a visão é tida como
+ * desatualizada.
+ */
+@Repository
+public class JpaOrderReadModel implements OrderReadModel {
+    
+    private static final Duration NOT_READY = Duration.ofDays(365);
+    
+    private final JpaOrderViewRepository repository;
+    private final OutboxLagTracker lagTracker;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    
+    private volatile boolean ready;
+    
+    public JpaOrderReadModel(JpaOrderViewRepository repository, OutboxLagTracker lagTracker) {
+        this.repository = repository;
+        this.lagTracker = lagTracker;
+    }
+    
+    @Override
+    public Optional<OrderResponse> findById(Long id) {
+        return repository.findDocumentById(id).map(this::read);
+    }
+    
+    @Override
+    public List<OrderResponse> findByCustomerId(Long customerId) {
+        return read(repository.findDocumentsByCustomerId(customerId));
+    }
+    
+    @Override
+    public List<OrderResponse> findPage(Long afterId, int limit, BigDecimal minTotal, BigDecimal maxTotal) {
+        long cursor = afterId != null ? afterId : 0L;
+        return read(repository.findDocumentPage(cursor, minTotal, maxTotal, Limit.of(limit)));
+    }
+    
+    @Override
+    public List<OrderResponse> findTopByTotal(int limit) {
+        return read(repository.findTopDocumentsByTotal(Limit.of(limit)));
+    }
+    
+    @Override
+    public Duration lag() {
+        return ready ? lagTracker.lag() : NOT_READY;
+    }
+    
+    @Override
+    @Transactional
+    public void save(OrderResponse order) {
+        OrderViewEntity view = repository.findById(order.id()).orElseGet(OrderViewEntity::new);
+        view.setOrderId(order.id());
+        view.setCustomerId(order.customerId());
+        view.setCreatedAt(order.createdAt());
+        view.setStatus(order.status());
+        view.setItemCount(order.items().size());
+        view.setTotalAmount(order.total());
+        view.setDocument(jsonMapper.writeValueAsString(order));
+        view.setUpdatedAt(LocalDateTime.now());
+        repository.save(view);
+    }
+    
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        repository.deleteById(id);
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return repository.count() == 0;
+    }
+    
+    public void markReady() {
+        this.ready = true;
+    }
+    
+    private List<OrderResponse> read(List<String> documents) {
+        return documents.stream().map(this::read).toList();
+    }
+    
+    private OrderResponse read(String document) {
+        return jsonMapper.readValue(document, OrderResponse.class);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.monolitomodular.infrastructure.readmodel;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * As consultas devolvem só o documento JSON: nada de entidades gerenciadas nem snapshot
+ * para dirty checking no caminho de leitura.
+ */
+public interface JpaOrderViewRepository extends JpaRepository<OrderViewEntity, Long> {
+    
+    @Query("SELECT v.document FROM OrderViewEntity v WHERE v.orderId = :orderId")
+    Optional<String> findDocumentById(Long orderId);
+    
+    @Query("SELECT v.document FROM OrderViewEntity v WHERE v.customerId = :customerId ORDER BY v.orderId")
+    List<String> findDocumentsByCustomerId(Long customerId);
+    
+    @Query("SELECT v.document FROM OrderViewEntity v WHERE v.orderId > :after "
+        + "AND (:minTotal IS NULL OR v.totalAmount >= :minTotal) "
+        + "AND (:maxTotal IS NULL OR v.totalAmount <= :maxTotal) "
+        + "ORDER BY v.orderId")
+    List<String> findDocumentPage(Long after, BigDecimal minTotal, BigDecimal maxTotal, Limit limit);
+    
+    @Query("SELECT v.document FROM OrderViewEntity v ORDER BY v.totalAmount DESC, v.orderId ASC")
+    List<String> findTopDocumentsByTotal(Limit limit);
+}
@@ -0,0 +1,50 @@
+package com.example.monolitomodular.infrastructure.readmodel;
+
+import com.example.monolitomodular.domain.order.OrderStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Visão desnormalizada de um pedido: colunas para filtrar/ordenar e o documento JSON
+ * da resposta completa (com itens e totais já calculados).
+ */
+@Entity
+@Table(name = "order_views", indexes = {
+    @Index(name = "idx_order_views_customer_id", columnList = "customer_id"),
+    @Index(name = "idx_order_views_total_amount", columnList = "total_amount")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class OrderViewEntity {
+    
+    @Id
+    private Long orderId;
+    
+    @Column(nullable = false)
+    private Long customerId;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+    
+    @Column(nullable = false)
+    private Integer itemCount;
+    
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalAmount;
+    
+    @Column(nullable = false, length = 1_000_000)
+    private String document;
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,41 @@
+package com.example.monolitomodular.infrastructure.readmodel;
+
+import com.example.monolitomodular.application.order.OrderViewProjector;
+import com.example.monolitomodular.infrastructure.outbox.OutboxMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Alimenta o modelo de leitura a partir do outbox (sink in-process). Na subida, se a
+ * tabela de visões estiver vazia, reprojeta todos os pedidos antes de liberá-la para leitura.
+ */
+public class OrderViewListener {
+    
+    private static final Logger log = LoggerFactory.getLogger(OrderViewListener.class);
+    
+    private final OrderViewProjector projector;
+    private final JpaOrderReadModel readModel;
+    
+    public OrderViewListener(OrderViewProjector projector, JpaOrderReadModel readModel) {
+        this.projector = projector;
+        this.readModel = readModel;
+    }
+    
+    @EventListener
+    public void on(OutboxMessage message) {
+        projector.project(message.aggregateId());
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (readModel.isEmpty()) {
+            long start = System.nanoTime();
+            int projected = projector.rebuild();
+            log.info("Modelo de leitura de pedidos reconstruído: {} pedidos em {} ms",
+                projected, (System.nanoTime() - start) / 1_000_000);
+        }
+        readModel.markReady();
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.monolitomodular.infrastructure.sse;
+
+import com.example.monolitomodular.domain.order.OrderStatus;
+import com.example.monolitomodular.domain.order.OrderStatusChanged;
+import com.example.monolitomodular.infrastructure.outbox.OutboxMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Distribui as mudanças de status de pedidos (vindas do outbox) para assinantes SSE.
+ *
+ * <p>O relay só enfileira: cada assinante tem uma fila limitada, esvaziada por um pool
+ * pequeno de threads de envio. Assinante que não acompanha (fila cheia) é desconectado e
+ * retoma pelo Last-Event-ID, a partir do buffer circular dos últimos eventos. Como o outbox
+ * entrega pelo menos uma vez, eventos já vistos (mesmo id) são ignorados.
+ */
+public class OrderEventBroadcaster implements MeterBinder, DisposableBean {
+    
+    private final int replaySize;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final ExecutorService senders;
+    
+    private final Deque<Entry> recent;
+    private final Set<Long> recentIds = new HashSet<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    
+    private Counter dropped;
+    
+    public OrderEventBroadcaster(int replaySize, int bufferSize, Duration timeout, int senderThreads) {
+        this.replaySize = replaySize;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.recent = new ArrayDeque<>(replaySize);
+        AtomicInteger threads = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "order-events-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Novo assinante dos status informados (vazio = todos). Com {@code lastEventId}, reenvia
+     * os eventos guardados depois dele; se ele já saiu do buffer, reenvia o buffer inteiro.
+     */
+    public SseEmitter subscribe(Set<OrderStatus> statuses, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, statuses, bufferSize + replaySize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        
+        // Primeiro envio já confirma a resposta; sem ele o cliente só recebe os cabeçalhos no primeiro evento
+        subscriber.offer(SseEmitter.event().comment("connected"));
+        synchronized (recent) {
+            if (lastEventId != null) {
+                replay(subscriber, parseId(lastEventId));
+            }
+            subscribers.add(subscriber);
+        }
+        subscriber.schedule();
+        return emitter;
+    }
+    
+    /**
+     * Chamado pelo relay (sink in-process), dentro do lote: só enfileira, nunca bloqueia.
+     * OrderCreated conta como entrada em PENDING.
+     */
+    @EventListener
+    public void on(OutboxMessage message) {
+        OrderStatus status = message.event() instanceof OrderStatusChanged changed
+            ? changed.status()
+            : OrderStatus.PENDING;
+        Entry entry = new Entry(message.id(), message.type(),
+            new OrderStatusEvent(message.aggregateId(), status, message.event().occurredAt()));
+        
+        synchronized (recent) {
+            if (!recentIds.add(entry.id())) {
+                return;
+            }
+            if (recent.size() == replaySize) {
+                recentIds.remove(recent.removeFirst().id());
+            }
+            recent.addLast(entry);
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.accepts(entry)) {
+                    subscriber.offer(entry.toSse());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Comentário periódico: mantém proxies abertos e revela conexões mortas.
+     */
+    @Scheduled(fixedDelayString = "${app.orders.events.heartbeat:15s}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+    
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.orders.events.subscribers", this, OrderEventBroadcaster::subscriberCount)
+            .register(registry);
+        dropped = Counter.builder("app.orders.events.dropped")
+            .description("Assinantes desconectados por não acompanhar o fluxo")
+            .register(registry);
+    }
+    
+    /**
+     * Encerra as conexões antes do graceful shutdown, que senão esperaria por elas até o timeout.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void closeSubscribers() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+    
+    @Override
+    public void destroy() {
+        closeSubscribers();
+        senders.shutdownNow();
+    }
+    
+    private void replay(Subscriber subscriber, Long lastEventId) {
+        boolean found = lastEventId == null || !recentIds.contains(lastEventId);
+        for (Entry entry : recent) {
+            if (found && subscriber.accepts(entry)) {
+                subscriber.offer(entry.toSse());
+            }
+            if (!found && entry.id().equals(lastEventId)) {
+                found = true;
+            }
+        }
+    }
+    
+    private void drop(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            if (dropped != null) {
+                dropped.increment();
+            }
+            subscriber.emitter.complete();
+        }
+    }
+    
+    private static Long parseId(String lastEventId) {
+        try {
+            return Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    private record Entry(Long id, String type, OrderStatusEvent data) {
+        
+        SseEventBuilder toSse() {
+            return SseEmitter.event()
+                .id(String.valueOf(id))
+                .name(type)
+                .data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+    
+    private final class Subscriber {
+        
+        private final SseEmitter emitter;
+        private final Set<OrderStatus> statuses;
+        private final BlockingQueue<SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        
+        Subscriber(SseEmitter emitter, Set<OrderStatus> statuses, int capacity) {
+            this.emitter = emitter;
+            this.statuses = statuses;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+        
+        boolean accepts(Entry entry) {
+            return statuses.isEmpty() || statuses.contains(entry.data().status());
+        }
+        
+        void offer(SseEventBuilder event) {
+            if (!queue.offer(event)) {
+                drop(this);
+                return;
+            }
+            schedule();
+        }
+        
+        void schedule() {
+            if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+        
+        private void drain() {
+            try {
+                List<SseEventBuilder> batch = new ArrayList<>();
+                while (queue.drainTo(batch) > 0) {
+                    for (SseEventBuilder event : batch) {
+                        emitter.send(event);
+                    }
+                    batch.clear();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectado ou emitter já encerrado
+                subscribers.remove(this);
+                queue.clear();
+            } finally {
+                draining.set(false);
+            }
+            if (subscribers.contains(this)) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.monolitomodular.infrastructure.sse;
+
+import com.example.monolitomodular.domain.order.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dado de cada evento SSE: o pedido e o status em que ele entrou.
+ */
+public record OrderStatusEvent(
+    Long orderId,
+    OrderStatus status,
+    LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,239 @@
+package com.example.monolitomodular.infrastructure.submission;
+
+import com.example.monolitomodular.application.order.OrderSubmission;
+import com.example.monolitomodular.application.order.OrderSubmissionJournal;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Diário em arquivo NDJSON (um envio por linha) mais um checkpoint com o offset já gravado
+ * no banco. O fsync é em grupo: quem chega enquanto outro força o disco entra no fsync seguinte.
+ * O leitor só enxerga o que já foi forçado; uma linha cortada por queda é descartada ao abrir.
+ * Quando tudo foi drenado e o arquivo passou de {@code compactThreshold} bytes, ele é truncado.
+ */
+public class FileOrderSubmissionJournal implements OrderSubmissionJournal, MeterBinder, DisposableBean {
+    
+    private static final Logger log = LoggerFactory.getLogger(FileOrderSubmissionJournal.class);
+    
+    private final Path journalPath;
+    private final Path checkpointPath;
+    private final long compactThreshold;
+    private final FileChannel channel;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    
+    private final Object writeLock = new Object();
+    private final Object syncLock = new Object();
+    private volatile long written;
+    private volatile long synced;
+    private volatile long drained;
+    
+    public FileOrderSubmissionJournal(Path directory, long compactThreshold) {
+        this.journalPath = directory.resolve("order-submissions.ndjson");
+        this.checkpointPath = directory.resolve("order-submissions.checkpoint");
+        this.compactThreshold = compactThreshold;
+        try {
+            Files.createDirectories(directory);
+            this.channel = FileChannel.open(journalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir o diário de pedidos em " + directory, e);
+        }
+    }
+    
+    @Override
+    public void append(OrderSubmission submission) {
+        byte[] line = (jsonMapper.writeValueAsString(submission) + "\n").getBytes(StandardCharsets.UTF_8);
+        long end;
+        try {
+            synchronized (writeLock) {
+                ByteBuffer buffer = ByteBuffer.wrap(line);
+                long position = written;
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                written = position;
+                end = position;
+                pending.add(submission.trackingId());
+            }
+            sync(end);
+        } catch (IOException e) {
+            pending.remove(submission.trackingId());
+            throw new UncheckedIOException("Falha ao gravar no diário de pedidos", e);
+        }
+    }
+    
+    @Override
+    public boolean isPending(String trackingId) {
+        return pending.contains(trackingId);
+    }
+    
+    /**
+     * Próximas linhas já em disco depois do checkpoint, no máximo {@code maxEntries}.
+     */
+    public Batch next(int maxEntries) {
+        long start = drained;
+        try (InputStream in = Channels.newInputStream(FileChannel.open(journalPath, StandardOpenOption.READ)
+                .position(start))) {
+            return read(in, start, synced, maxEntries);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o diário de pedidos", e);
+        }
+    }
+    
+    /**
+     * Marca o lote como gravado no banco: avança o checkpoint e tira os envios da lista de pendentes.
+     */
+    public void checkpoint(Batch batch) {
+        try {
+            synchronized (writeLock) {
+                long end = batch.end();
+                if (end == written && end >= compactThreshold) {
+                    channel.truncate(0);
+                    channel.force(true);
+                    written = 0;
+                    synced = 0;
+                    end = 0;
+                }
+                writeCheckpoint(end);
+                drained = end;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar o checkpoint do diário de pedidos", e);
+        }
+        batch.submissions().forEach(submission -> pending.remove(submission.trackingId()));
+    }
+    
+    public int pendingCount() {
+        return pending.size();
+    }
+    
+    private void sync(long end) throws IOException {
+        synchronized (syncLock) {
+            if (synced >= end) {
+                return;
+            }
+            long target = written;
+            channel.force(false);
+            synced = target;
+        }
+    }
+    
+    private void recover() throws IOException {
+        long size = channel.size();
+        long checkpoint = readCheckpoint();
+        if (checkpoint > size) {
+            // Queda durante a compactação: o arquivo foi truncado antes do checkpoint
+            checkpoint = 0;
+        }
+        Batch tail;
+        try (InputStream in = Channels.newInputStream(FileChannel.open(journalPath, StandardOpenOption.READ)
+                .position(checkpoint))) {
+            tail = read(in, checkpoint, size, Integer.MAX_VALUE);
+        }
+        if (tail.end() < size) {
+            log.warn("Descartando {} bytes incompletos no fim de {}", size - tail.end(), journalPath);
+            channel.truncate(tail.end());
+            channel.force(true);
+        }
+        tail.submissions().forEach(submission -> pending.add(submission.trackingId()));
+        written = tail.end();
+        synced = tail.end();
+        drained = checkpoint;
+        if (!pending.isEmpty()) {
+            log.info("{} pedidos do diário aguardando gravação no banco", pending.size());
+        }
+    }
+    
+    private Batch read(InputStream input, long start, long limit, int maxEntries) throws IOException {
+        List<OrderSubmission> submissions = new ArrayList<>();
+        int lines = 0;
+        long position = start;
+        long end = start;
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        InputStream in = new BufferedInputStream(input);
+        while (lines < maxEntries && position < limit) {
+            int b = in.read();
+            if (b == -1) {
+                break;
+            }
+            position++;
+            if (b != '\n') {
+                line.write(b);
+                continue;
+            }
+            lines++;
+            end = position;
+            try {
+                submissions.add(jsonMapper.readValue(line.toByteArray(), OrderSubmission.class));
+            } catch (JacksonException e) {
+                log.error("Linha inválida no diário de pedidos (offset {}): {}", end - line.size() - 1, e.getOriginalMessage());
+            }
+            line.reset();
+        }
+        return new Batch(submissions, lines, end);
+    }
+    
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointPath)) {
+            return 0;
+        }
+        return Long.parseLong(Files.readString(checkpointPath).trim());
+    }
+    
+    private void writeCheckpoint(long offset) throws IOException {
+        Path temp = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            out.write(ByteBuffer.wrap(Long.toString(offset).getBytes(StandardCharsets.US_ASCII)));
+            out.force(true);
+        }
+        Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.orders.submissions.pending", this, FileOrderSubmissionJournal::pendingCount)
+            .register(registry);
+    }
+    
+    @Override
+    public void destroy() throws IOException {
+        channel.close();
+    }
+    
+    /**
+     * Linhas lidas (inclusive inválidas, que são puladas) e o offset logo depois da última.
+     */
+    public record Batch(List<OrderSubmission> submissions, int lines, long end) {
+    
+        public boolean isEmpty() {
+            return lines == 0;
+        }
+    }
+}
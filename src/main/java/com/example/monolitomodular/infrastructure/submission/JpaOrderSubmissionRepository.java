@@ -0,0 +1,17 @@
+package com.example.monolitomodular.infrastructure.submission;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Set;
+
+
+@Repository
+public interface JpaOrderSubmissionRepository extends JpaRepository<OrderSubmissionEntity, String> {
+    
+    @Query("SELECT s.trackingId FROM OrderSubmissionEntity s WHERE s.trackingId IN :ids")
+    Set<String> findExistingIds(@Param("ids") Collection<String> ids);
+}
@@ -0,0 +1,60 @@
+package com.example.monolitomodular.infrastructure.submission;
+
+import com.example.monolitomodular.application.order.OrderSubmissionStore;
+import com.example.monolitomodular.application.order.dto.OrderSubmissionResponse;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+
+@Repository
+public class JpaOrderSubmissionStore implements OrderSubmissionStore {
+    
+    private static final int MAX_ERROR_LENGTH = 500;
+    
+    private final JpaOrderSubmissionRepository repository;
+    
+    public JpaOrderSubmissionStore(JpaOrderSubmissionRepository repository) {
+        this.repository = repository;
+    }
+    
+    @Override
+    public Optional<OrderSubmissionResponse> findByTrackingId(String trackingId) {
+        return repository.findById(trackingId).map(this::toResponse);
+    }
+    
+    @Override
+    public Set<String> findProcessed(Collection<String> trackingIds) {
+        if (trackingIds.isEmpty()) {
+            return Set.of();
+        }
+        return repository.findExistingIds(trackingIds);
+    }
+    
+    @Override
+    @Transactional
+    public void saveAll(List<OrderSubmissionResponse> results) {
+        LocalDateTime now = LocalDateTime.now();
+        repository.saveAll(results.stream().map(result -> toEntity(result, now)).toList());
+    }
+    
+    private OrderSubmissionEntity toEntity(OrderSubmissionResponse result, LocalDateTime processedAt) {
+        OrderSubmissionEntity entity = new OrderSubmissionEntity();
+        entity.setTrackingId(result.trackingId());
+        entity.setStatus(result.status());
+        entity.setOrderId(result.orderId());
+        String error = result.error();
+        entity.setError(error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        entity.setProcessedAt(processedAt);
+        return entity;
+    }
+    
+    private OrderSubmissionResponse toResponse(OrderSubmissionEntity entity) {
+        return new OrderSubmissionResponse(entity.getTrackingId(), entity.getStatus(), entity.getOrderId(), entity.getError());
+    }
+}
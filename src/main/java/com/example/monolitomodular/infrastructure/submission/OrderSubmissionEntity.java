@@ -0,0 +1,48 @@
+package com.example.monolitomodular.infrastructure.submission;
+
+import com.example.monolitomodular.application.order.dto.OrderSubmissionResponse;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resultado de um envio assíncrono. Cada linha é inserida uma única vez: isNew evita o
+ * SELECT que o merge faria por causa do id atribuído.
+ */
+@Entity
+@Table(name = "order_submissions")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OrderSubmissionEntity implements Persistable<String> {
+    
+    @Id
+    @Column(length = 36)
+    private String trackingId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderSubmissionResponse.Status status;
+    
+    private Long orderId;
+    
+    @Column(length = 500)
+    private String error;
+    
+    @Column(nullable = false)
+    private LocalDateTime processedAt;
+    
+    @Override
+    public String getId() {
+        return trackingId;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.monolitomodular.infrastructure.submission;
+
+import com.example.monolitomodular.application.order.OrderSubmission;
+import com.example.monolitomodular.application.order.ProcessOrderSubmissionsUseCase;
+import com.example.monolitomodular.domain.shared.DomainException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Drena o diário de pedidos em lotes: cada lote é gravado numa transação e só então o
+ * checkpoint avança. Se cair entre as duas coisas, o lote é relido e os envios já
+ * registrados são pulados. Se o lote falhar, cada envio é gravado na sua própria transação
+ * e o que falhar de novo fica REJECTED, para um envio ruim não travar o diário. Se nem a
+ * rejeição puder ser gravada (banco fora do ar), o lote fica para o próximo ciclo.
+ */
+public class OrderSubmissionWriter implements MeterBinder {
+    
+    private static final Logger log = LoggerFactory.getLogger(OrderSubmissionWriter.class);
+    
+    private final FileOrderSubmissionJournal journal;
+    private final ProcessOrderSubmissionsUseCase processOrderSubmissionsUseCase;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    
+    private Counter processed;
+    private Counter failures;
+    private Counter rejected;
+    
+    public OrderSubmissionWriter(FileOrderSubmissionJournal journal,
+                                 ProcessOrderSubmissionsUseCase processOrderSubmissionsUseCase,
+                                 TransactionTemplate transactionTemplate,
+                                 int batchSize) {
+        this.journal = journal;
+        this.processOrderSubmissionsUseCase = processOrderSubmissionsUseCase;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+    
+    @Scheduled(fixedDelayString = "${app.orders.async.drain-interval:200ms}")
+    public void drain() {
+        try {
+            while (drainBatch() == batchSize) {
+                // lote cheio: provavelmente há mais envios no diário
+            }
+        } catch (RuntimeException e) {
+            if (failures != null) {
+                failures.increment();
+            }
+            log.warn("Falha ao gravar pedidos do diário; nova tentativa no próximo ciclo", e);
+        }
+    }
+    
+    /**
+     * Grava um lote e devolve quantas linhas do diário ele consumiu.
+     */
+    public int drainBatch() {
+        FileOrderSubmissionJournal.Batch batch = journal.next(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        if (!batch.submissions().isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(
+                    status -> processOrderSubmissionsUseCase.execute(batch.submissions()));
+            } catch (RuntimeException e) {
+                log.warn("Lote de {} pedidos do diário falhou; gravando um a um", batch.submissions().size(), e);
+                batch.submissions().forEach(this::processAlone);
+            }
+        }
+        journal.checkpoint(batch);
+        if (processed != null) {
+            processed.increment(batch.submissions().size());
+        }
+        return batch.lines();
+    }
+    
+    private void processAlone(OrderSubmission submission) {
+        try {
+            transactionTemplate.executeWithoutResult(
+                status -> processOrderSubmissionsUseCase.execute(List.of(submission)));
+        } catch (RuntimeException e) {
+            // O erro fica visível pelo tracking id: só mensagens de domínio vão para o cliente,
+            // o resto (SQL, colunas, valores) vai para o log
+            log.warn("Envio {} do diário recusado ao gravar", submission.trackingId(), e);
+            String error = e instanceof DomainException ? e.getMessage() : "Falha ao gravar o pedido";
+            transactionTemplate.executeWithoutResult(
+                status -> processOrderSubmissionsUseCase.reject(submission, error));
+            if (rejected != null) {
+                rejected.increment();
+            }
+        }
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        processed = Counter.builder("app.orders.submissions.processed").register(registry);
+        failures = Counter.builder("app.orders.submissions.failures").register(registry);
+        rejected = Counter.builder("app.orders.submissions.rejected").register(registry);
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -32,9 +33,17 @@ public class CustomerController {
     }
     
 
+    /**
+     * ETag = versão do cliente devolvido (gravado por checkNotModified), assim corpo e ETag
+     * não divergem se o cliente mudar no meio. Com If-None-Match igual à versão responde 304
+     * sem serializar; a leitura em si costuma vir do cache de clientes.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<CustomerResponse> findById(@PathVariable Long id) {
+    public ResponseEntity<CustomerResponse> findById(@PathVariable Long id, WebRequest request) {
         CustomerResponse response = getCustomerUseCase.findById(id);
+        if (request.checkNotModified(String.valueOf(response.version()))) {
+            return null;
+        }
         return ResponseEntity.ok(response);
     }
 
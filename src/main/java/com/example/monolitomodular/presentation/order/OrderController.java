@@ -1,16 +1,39 @@
 package com.example.monolitomodular.presentation.order;
 
-import com.example.monolitomodular.application.order.ConfirmOrderUseCase;
+import com.example.monolitomodular.application.order.AddOrderItemUseCase;
+import com.example.monolitomodular.application.order.BulkCreateOrderUseCase;
+import com.example.monolitomodular.application.order.ClaimOrdersUseCase;
+import com.example.monolitomodular.application.order.ChangeOrderStatusUseCase;
 import com.example.monolitomodular.application.order.CreateOrderUseCase;
 import com.example.monolitomodular.application.order.GetOrderUseCase;
+import com.example.monolitomodular.application.order.dto.BulkOrderResponse;
 import com.example.monolitomodular.application.order.dto.CreateOrderRequest;
+import com.example.monolitomodular.application.order.dto.OrderItemRequest;
+import com.example.monolitomodular.application.order.dto.OrderPageResponse;
 import com.example.monolitomodular.application.order.dto.OrderResponse;
+import com.example.monolitomodular.application.order.dto.OrderSummaryPageResponse;
+import com.example.monolitomodular.application.order.dto.OrderSummaryResponse;
+import com.example.monolitomodular.domain.shared.DomainException;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 
 @RestController
@@ -18,15 +41,27 @@ import java.util.List;
 public class OrderController {
     
     private final CreateOrderUseCase createOrderUseCase;
+    private final BulkCreateOrderUseCase bulkCreateOrderUseCase;
     private final GetOrderUseCase getOrderUseCase;
-    private final ConfirmOrderUseCase confirmOrderUseCase;
+    private final ChangeOrderStatusUseCase changeOrderStatusUseCase;
+    private final AddOrderItemUseCase addOrderItemUseCase;
+    private final ClaimOrdersUseCase claimOrdersUseCase;
+    private final JsonMapper jsonMapper;
     
     public OrderController(CreateOrderUseCase createOrderUseCase,
+                          BulkCreateOrderUseCase bulkCreateOrderUseCase,
                           GetOrderUseCase getOrderUseCase,
-                          ConfirmOrderUseCase confirmOrderUseCase) {
+                          ChangeOrderStatusUseCase changeOrderStatusUseCase,
+                          AddOrderItemUseCase addOrderItemUseCase,
+                          ClaimOrdersUseCase claimOrdersUseCase,
+                          JsonMapper jsonMapper) {
         this.createOrderUseCase = createOrderUseCase;
+        this.bulkCreateOrderUseCase = bulkCreateOrderUseCase;
         this.getOrderUseCase = getOrderUseCase;
-        this.confirmOrderUseCase = confirmOrderUseCase;
+        this.changeOrderStatusUseCase = changeOrderStatusUseCase;
+        this.addOrderItemUseCase = addOrderItemUseCase;
+        this.claimOrdersUseCase = claimOrdersUseCase;
+        this.jsonMapper = jsonMapper;
     }
     
     @PostMapping
@@ -35,28 +70,146 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkOrderResponse> createBulk(@RequestBody List<CreateOrderRequest> requests) {
+        BulkOrderResponse response = bulkCreateOrderUseCase.execute(requests);
+        return ResponseEntity.ok(response);
+    }
+    
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkOrderResponse> createBulkNdjson(InputStream body) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            Iterator<String> lines = reader.lines().filter(line -> !line.isBlank()).iterator();
+            // O parse fica no next(): uma linha malformada falha só o seu registro
+            Iterator<CreateOrderRequest> requests = new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return lines.hasNext();
+                }
+                
+                @Override
+                public CreateOrderRequest next() {
+                    return parseLine(lines.next());
+                }
+            };
+            BulkOrderResponse response = bulkCreateOrderUseCase.execute(requests);
+            return ResponseEntity.ok(response);
+        }
+    }
+    
+    /**
+     * GET condicional: ETag = versão do pedido, lida com uma consulta de uma coluna. Se
+     * bater com o If-None-Match responde 304 sem montar o pedido; senão checkNotModified
+     * já grava o ETag e a resposta é buscada nessa versão.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<OrderResponse> findById(@PathVariable Long id) {
-        OrderResponse response = getOrderUseCase.findById(id);
+    public ResponseEntity<OrderResponse> findById(@PathVariable Long id, WebRequest request) {
+        Optional<Long> version = getOrderUseCase.findVersion(id);
+        if (version.isPresent() && request.checkNotModified(String.valueOf(version.get()))) {
+            return null;
+        }
+        OrderResponse response = getOrderUseCase.findById(id, version.orElse(null));
         return ResponseEntity.ok(response);
     }
 
     @GetMapping
-    public ResponseEntity<List<OrderResponse>> findAll() {
-        List<OrderResponse> response = getOrderUseCase.findAll();
+    public ResponseEntity<OrderPageResponse> findAll(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + GetOrderUseCase.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) BigDecimal minTotal,
+            @RequestParam(required = false) BigDecimal maxTotal) {
+        OrderPageResponse response = getOrderUseCase.findPage(after, limit, minTotal, maxTotal);
         return ResponseEntity.ok(response);
     }
     
 
+    @GetMapping(params = "view=summary")
+    public ResponseEntity<OrderSummaryPageResponse> findAllSummaries(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + GetOrderUseCase.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) BigDecimal minTotal,
+            @RequestParam(required = false) BigDecimal maxTotal) {
+        OrderSummaryPageResponse response = getOrderUseCase.findSummaryPage(after, limit, minTotal, maxTotal);
+        return ResponseEntity.ok(response);
+    }
+    
+
+    @GetMapping("/top")
+    public ResponseEntity<List<OrderResponse>> findTopByTotal(
+            @RequestParam(defaultValue = "" + GetOrderUseCase.DEFAULT_PAGE_SIZE) int limit) {
+        List<OrderResponse> response = getOrderUseCase.findTopByTotal(limit);
+        return ResponseEntity.ok(response);
+    }
+    
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll(@RequestParam(required = false) Long after) {
+        StreamingResponseBody body = outputStream -> getOrderUseCase.forEach(after, order -> {
+            try {
+                outputStream.write(jsonMapper.writeValueAsBytes(order));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+    
+
     @GetMapping("/customer/{customerId}")
     public ResponseEntity<List<OrderResponse>> findByCustomerId(@PathVariable Long customerId) {
         List<OrderResponse> response = getOrderUseCase.findByCustomerId(customerId);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/customer/{customerId}", params = "view=summary")
+    public ResponseEntity<List<OrderSummaryResponse>> findSummariesByCustomerId(@PathVariable Long customerId) {
+        List<OrderSummaryResponse> response = getOrderUseCase.findSummariesByCustomerId(customerId);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{id}/items")
+    public ResponseEntity<OrderResponse> addItem(@PathVariable Long id, @Valid @RequestBody OrderItemRequest request) {
+        OrderResponse response = addOrderItemUseCase.execute(id, request);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Reivindica os próximos pedidos confirmados (passam para PREPARING); lista vazia se não houver.
+     */
+    @PostMapping("/claims")
+    public ResponseEntity<List<OrderResponse>> claim(
+            @RequestParam(defaultValue = "" + ClaimOrdersUseCase.DEFAULT_LIMIT) int limit) {
+        List<OrderResponse> response = claimOrdersUseCase.execute(limit);
+        return ResponseEntity.ok(response);
+    }
+    
     @PostMapping("/{id}/confirm")
     public ResponseEntity<Void> confirm(@PathVariable Long id) {
-        confirmOrderUseCase.execute(id);
+        changeOrderStatusUseCase.confirm(id);
         return ResponseEntity.noContent().build();
     }
+    
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<Void> cancel(@PathVariable Long id) {
+        changeOrderStatusUseCase.cancel(id);
+        return ResponseEntity.noContent().build();
+    }
+    
+    @PostMapping("/{id}/ship")
+    public ResponseEntity<Void> ship(@PathVariable Long id) {
+        changeOrderStatusUseCase.ship(id);
+        return ResponseEntity.noContent().build();
+    }
+    
+    private CreateOrderRequest parseLine(String line) {
+        try {
+            return jsonMapper.readValue(line, CreateOrderRequest.class);
+        } catch (JacksonException e) {
+            throw new DomainException("Linha NDJSON inválida: " + e.getOriginalMessage());
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package com.example.monolitomodular.presentation.order;
+
+import com.example.monolitomodular.domain.order.OrderStatus;
+import com.example.monolitomodular.infrastructure.sse.OrderEventBroadcaster;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Mudanças de status de pedidos via Server-Sent Events, no lugar de consultar a lista
+ * de pedidos em loop. Ex.: {@code GET /api/orders/events?status=CONFIRMED}.
+ */
+@RestController
+@RequestMapping("/api/orders/events")
+public class OrderEventController {
+    
+    private final OrderEventBroadcaster broadcaster;
+    
+    public OrderEventController(OrderEventBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+    
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestParam(name = "status", required = false) List<OrderStatus> statuses,
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        Set<OrderStatus> filter = statuses == null || statuses.isEmpty()
+            ? Set.of()
+            : EnumSet.copyOf(statuses);
+        return broadcaster.subscribe(filter, lastEventId);
+    }
+}
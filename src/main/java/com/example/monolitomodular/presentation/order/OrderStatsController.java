@@ -0,0 +1,48 @@
+package com.example.monolitomodular.presentation.order;
+
+import com.example.monolitomodular.application.order.GetOrderStatsUseCase;
+import com.example.monolitomodular.application.order.dto.CustomerLifetimeValueResponse;
+import com.example.monolitomodular.application.order.dto.RevenueResponse;
+import com.example.monolitomodular.domain.order.OrderStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+
+@RestController
+@RequestMapping("/api/orders/stats")
+public class OrderStatsController {
+    
+    private final GetOrderStatsUseCase getOrderStatsUseCase;
+    
+    public OrderStatsController(GetOrderStatsUseCase getOrderStatsUseCase) {
+        this.getOrderStatsUseCase = getOrderStatsUseCase;
+    }
+    
+    @GetMapping("/revenue")
+    public ResponseEntity<RevenueResponse> revenue(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(getOrderStatsUseCase.revenue(from, to));
+    }
+    
+    @GetMapping("/status")
+    public ResponseEntity<Map<OrderStatus, Long>> countByStatus() {
+        return ResponseEntity.ok(getOrderStatsUseCase.countByStatus());
+    }
+    
+    @GetMapping("/customers")
+    public ResponseEntity<List<CustomerLifetimeValueResponse>> topCustomers(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(getOrderStatsUseCase.topCustomers(from, to, limit));
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.monolitomodular.presentation.order;
+
+import com.example.monolitomodular.application.order.GetOrderSubmissionUseCase;
+import com.example.monolitomodular.application.order.SubmitOrderUseCase;
+import com.example.monolitomodular.application.order.dto.CreateOrderRequest;
+import com.example.monolitomodular.application.order.dto.OrderSubmissionResponse;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+/**
+ * Criação assíncrona: 202 com o id de acompanhamento; GET nele informa o id do pedido
+ * quando o lote for gravado (ou o motivo da rejeição).
+ */
+@RestController
+@RequestMapping("/api/orders/submissions")
+@ConditionalOnProperty(name = "app.orders.async.enabled", havingValue = "true")
+public class OrderSubmissionController {
+    
+    private final SubmitOrderUseCase submitOrderUseCase;
+    private final GetOrderSubmissionUseCase getOrderSubmissionUseCase;
+    
+    public OrderSubmissionController(SubmitOrderUseCase submitOrderUseCase,
+                                     GetOrderSubmissionUseCase getOrderSubmissionUseCase) {
+        this.submitOrderUseCase = submitOrderUseCase;
+        this.getOrderSubmissionUseCase = getOrderSubmissionUseCase;
+    }
+    
+    @PostMapping
+    public ResponseEntity<OrderSubmissionResponse> submit(@Valid @RequestBody CreateOrderRequest request) {
+        OrderSubmissionResponse response = submitOrderUseCase.execute(request);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/orders/submissions/" + response.trackingId()))
+            .body(response);
+    }
+    
+    @GetMapping("/{trackingId}")
+    public ResponseEntity<OrderSubmissionResponse> findByTrackingId(@PathVariable String trackingId) {
+        OrderSubmissionResponse response = getOrderSubmissionUseCase.execute(trackingId);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.monolitomodular.presentation.shared;
 
+import com.example.monolitomodular.domain.shared.ConcurrencyConflictException;
 import com.example.monolitomodular.domain.shared.DomainException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -28,6 +29,20 @@ public class GlobalExceptionHandler {
     }
     
 
+    /**
+     * Conflito de versão que sobrou depois das novas tentativas: o cliente pode repetir.
+     */
+    @ExceptionHandler(ConcurrencyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyConflict(ConcurrencyConflictException ex) {
+        ErrorResponse error = new ErrorResponse(
+            HttpStatus.CONFLICT.value(),
+            ex.getMessage(),
+            LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+    
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidationException(
             MethodArgumentNotValidException ex) {
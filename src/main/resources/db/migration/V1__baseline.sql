@@ -0,0 +1,42 @@
+-- Esquema inicial (perfil prod). Alterações futuras entram como V2__..., V3__..., nunca editando esta.
+-- SQL compatível com H2 e PostgreSQL.
+
+-- Sequences com INCREMENT BY 50 = allocationSize das entidades (otimizador pooled do Hibernate)
+CREATE SEQUENCE customers_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE orders_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE order_items_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE customers (
+    id    BIGINT       NOT NULL,
+    name  VARCHAR(100) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    phone VARCHAR(20),
+    CONSTRAINT pk_customers PRIMARY KEY (id),
+    CONSTRAINT uk_customers_email UNIQUE (email)
+);
+
+CREATE TABLE orders (
+    id           BIGINT         NOT NULL,
+    customer_id  BIGINT         NOT NULL,
+    created_at   TIMESTAMP(6)   NOT NULL,
+    status       VARCHAR(20)    NOT NULL,
+    total_amount NUMERIC(14, 2) NOT NULL,
+    item_count   INTEGER        NOT NULL,
+    CONSTRAINT pk_orders PRIMARY KEY (id)
+);
+
+CREATE TABLE order_items (
+    id           BIGINT         NOT NULL,
+    order_id     BIGINT         NOT NULL,
+    product_name VARCHAR(200)   NOT NULL,
+    quantity     INTEGER        NOT NULL,
+    unit_price   NUMERIC(10, 2) NOT NULL,
+    CONSTRAINT pk_order_items PRIMARY KEY (id),
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (id)
+);
+
+CREATE INDEX idx_orders_customer_id ON orders (customer_id);
+CREATE INDEX idx_orders_status ON orders (status);
+CREATE INDEX idx_orders_created_at ON orders (created_at);
+CREATE INDEX idx_orders_total_amount ON orders (total_amount);
+CREATE INDEX idx_order_items_order_id ON order_items (order_id);
@@ -0,0 +1,11 @@
+-- Outbox de eventos de pedido (OutboxWriter grava na transação do pedido; OutboxRelay drena por id)
+CREATE SEQUENCE outbox_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE outbox_events (
+    id           BIGINT        NOT NULL,
+    aggregate_id BIGINT        NOT NULL,
+    event_type   VARCHAR(50)   NOT NULL,
+    payload      VARCHAR(4000) NOT NULL,
+    created_at   TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT pk_outbox_events PRIMARY KEY (id)
+);
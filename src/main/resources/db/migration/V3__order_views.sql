@@ -0,0 +1,15 @@
+-- Modelo de leitura de pedidos (JpaOrderReadModel), atualizado a partir do outbox
+CREATE TABLE order_views (
+    order_id     BIGINT          NOT NULL,
+    customer_id  BIGINT          NOT NULL,
+    created_at   TIMESTAMP(6)    NOT NULL,
+    status       VARCHAR(20)     NOT NULL,
+    item_count   INTEGER         NOT NULL,
+    total_amount NUMERIC(14, 2)  NOT NULL,
+    document     VARCHAR(1000000) NOT NULL,
+    updated_at   TIMESTAMP(6)    NOT NULL,
+    CONSTRAINT pk_order_views PRIMARY KEY (order_id)
+);
+
+CREATE INDEX idx_order_views_customer_id ON order_views (customer_id);
+CREATE INDEX idx_order_views_total_amount ON order_views (total_amount);
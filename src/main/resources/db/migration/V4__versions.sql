@@ -0,0 +1,3 @@
+-- Versão para lock otimista (@Version em OrderEntity e CustomerEntity)
+ALTER TABLE customers ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE orders ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
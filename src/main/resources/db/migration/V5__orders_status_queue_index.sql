@@ -0,0 +1,3 @@
+-- Fila de separação (claim): WHERE status = ? ORDER BY id LIMIT n FOR UPDATE SKIP LOCKED
+DROP INDEX idx_orders_status;
+CREATE INDEX idx_orders_status ON orders (status, id);
@@ -0,0 +1,9 @@
+-- Resultado das criações assíncronas de pedido (POST /api/orders/submissions), por id de acompanhamento
+CREATE TABLE order_submissions (
+    tracking_id  VARCHAR(36)   NOT NULL,
+    status       VARCHAR(20)   NOT NULL,
+    order_id     BIGINT,
+    error        VARCHAR(500),
+    processed_at TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT pk_order_submissions PRIMARY KEY (tracking_id)
+);
@@ -0,0 +1,3 @@
+-- Tentativas de entrega por evento; após app.outbox.relay.max-attempts o evento é estacionado (parked_at) e sai da fila
+ALTER TABLE outbox_events ADD COLUMN attempts INT DEFAULT 0 NOT NULL;
+ALTER TABLE outbox_events ADD COLUMN parked_at TIMESTAMP(6);
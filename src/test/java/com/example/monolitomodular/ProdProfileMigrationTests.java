@@ -0,0 +1,35 @@
+package com.example.monolitomodular;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sobe o perfil prod num H2 em memória: as migrations rodam e o Hibernate valida o
+ * esquema contra as entidades (ddl-auto=validate), falhando se divergirem.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:prodcheck;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("prod")
+class ProdProfileMigrationTests {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void migrationsMatchEntitiesAndCreateIndexes() {
+		Integer applied = jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM \"flyway_schema_history\" WHERE \"success\" = TRUE", Integer.class);
+		assertThat(applied).isPositive();
+
+		assertThat(jdbcTemplate.queryForList(
+			"SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME IN ('ORDERS', 'ORDER_ITEMS')",
+			String.class))
+			.contains("IDX_ORDERS_CUSTOMER_ID", "IDX_ORDERS_STATUS", "IDX_ORDERS_CREATED_AT",
+				"IDX_ORDERS_TOTAL_AMOUNT", "IDX_ORDER_ITEMS_ORDER_ID");
+	}
+
+}
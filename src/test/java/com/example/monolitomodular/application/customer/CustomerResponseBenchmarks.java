@@ -0,0 +1,44 @@
+package com.example.monolitomodular.application.customer;
+
+import com.example.monolitomodular.application.customer.dto.CustomerResponse;
+import com.example.monolitomodular.domain.customer.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH: montagem do CustomerResponse.
+ * Executar com: mvn -Pjmh test
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerResponseBenchmarks {
+
+	private GetCustomerUseCase useCase;
+	private Customer customer;
+
+	@Setup
+	public void setUp() {
+		useCase = new GetCustomerUseCase(null);
+		customer = Customer.reconstitute(1L, "Maria Silva", "maria.silva@example.com", "11987654321", 0L);
+	}
+
+	@Benchmark
+	public CustomerResponse toResponse() {
+		return useCase.toResponse(customer);
+	}
+
+}
@@ -0,0 +1,146 @@
+package com.example.monolitomodular.application.order;
+
+import com.example.monolitomodular.application.order.dto.BulkOrderResponse;
+import com.example.monolitomodular.application.order.dto.BulkOrderResult;
+import com.example.monolitomodular.application.order.dto.CreateOrderRequest;
+import com.example.monolitomodular.application.order.dto.OrderItemRequest;
+import com.example.monolitomodular.domain.order.Order;
+import com.example.monolitomodular.domain.order.OrderRepository;
+import com.example.monolitomodular.domain.shared.DomainException;
+import com.example.monolitomodular.infrastructure.persistence.customer.CustomerRepositoryImpl;
+import com.example.monolitomodular.infrastructure.persistence.customer.EmailBloomFilter;
+import com.example.monolitomodular.infrastructure.persistence.customer.JpaCustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BulkCreateOrderUseCaseTests {
+
+	private static final int CHUNK_SIZE = 3;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private JpaCustomerRepository jpaCustomerRepository;
+
+	@Autowired
+	private EmailBloomFilter emailFilter;
+
+	private int customerLookups;
+
+	private BulkCreateOrderUseCase useCase;
+
+	@BeforeEach
+	void setUp() {
+		CustomerRepositoryImpl customers = new CustomerRepositoryImpl(jpaCustomerRepository, emailFilter) {
+
+			@Override
+			public boolean existsAllById(Collection<Long> ids) {
+				customerLookups++;
+				return super.existsAllById(ids);
+			}
+
+			@Override
+			public Set<Long> findExistingIds(Collection<Long> ids) {
+				customerLookups++;
+				return super.findExistingIds(ids);
+			}
+		};
+		useCase = new BulkCreateOrderUseCase(orderRepository, customers, CHUNK_SIZE);
+	}
+
+	@Test
+	void chunksAreValidatedWithOneCustomerLookupAndKeepTheirIndexes() {
+		List<CreateOrderRequest> requests = List.of(
+			request(1L), request(2L), request(3L),
+			request(1L), request(2L), request(3L),
+			request(1L));
+
+		BulkOrderResponse response = useCase.execute(requests);
+
+		assertThat(response.total()).isEqualTo(7);
+		assertThat(response.created()).isEqualTo(7);
+		assertThat(response.results()).extracting(BulkOrderResult::index).containsExactly(0, 1, 2, 3, 4, 5, 6);
+		assertThat(customerLookups).isEqualTo(3);
+		for (int i = 0; i < requests.size(); i++) {
+			Order order = orderRepository.findById(response.results().get(i).orderId()).orElseThrow();
+			assertThat(order.getCustomerId()).isEqualTo(requests.get(i).customerId());
+		}
+	}
+
+	@Test
+	void missingCustomerAndInvalidRecordsFailAtTheirIndexAcrossChunks() {
+		BulkOrderResponse response = useCase.execute(List.of(
+			request(1L),
+			request(999L),
+			request(2L),
+			new CreateOrderRequest(3L, List.of()),
+			request(3L)));
+
+		assertThat(response.created()).isEqualTo(3);
+		assertThat(response.failed()).isEqualTo(2);
+		assertThat(response.results()).extracting(BulkOrderResult::error).containsExactly(
+			null, "Cliente não encontrado: 999", null, "Pedido deve ter pelo menos um item", null);
+		assertThat(response.results()).extracting(BulkOrderResult::index).containsExactly(0, 1, 2, 3, 4);
+	}
+
+	@Test
+	void unreadableRecordFailsAtItsIndexAndReadingContinues() {
+		Iterator<CreateOrderRequest> lines = List.of(request(1L), request(2L), request(3L), request(1L)).iterator();
+		Iterator<CreateOrderRequest> requests = new Iterator<>() {
+
+			private int read;
+
+			@Override
+			public boolean hasNext() {
+				return lines.hasNext();
+			}
+
+			@Override
+			public CreateOrderRequest next() {
+				CreateOrderRequest next = lines.next();
+				if (read++ == 2) {
+					throw new DomainException("Linha NDJSON inválida");
+				}
+				return next;
+			}
+		};
+
+		BulkOrderResponse response = useCase.execute(requests);
+
+		assertThat(response.total()).isEqualTo(4);
+		assertThat(response.results()).extracting(BulkOrderResult::error)
+			.containsExactly(null, null, "Linha NDJSON inválida", null);
+	}
+
+	@Test
+	void rowRejectedByTheDatabaseDoesNotUndoItsNeighbours() {
+		BulkOrderResponse response = useCase.execute(List.of(
+			request(1L),
+			new CreateOrderRequest(2L, List.of(new OrderItemRequest("Produto", 1, new BigDecimal("1000000000000.00")))),
+			request(3L)));
+
+		assertThat(response.created()).isEqualTo(2);
+		BulkOrderResult rejected = response.results().get(1);
+		assertThat(rejected.orderId()).isNull();
+		assertThat(rejected.error()).isEqualTo("Pedido com valores fora dos limites aceitos");
+		assertThat(List.of(response.results().get(0), response.results().get(2)))
+			.allSatisfy(result -> assertThat(orderRepository.findById(result.orderId())).isPresent());
+	}
+
+	private CreateOrderRequest request(Long customerId) {
+		return new CreateOrderRequest(customerId, List.of(new OrderItemRequest("Produto", 2, new BigDecimal("10.00"))));
+	}
+
+}
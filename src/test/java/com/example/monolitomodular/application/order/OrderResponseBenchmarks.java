@@ -0,0 +1,64 @@
+package com.example.monolitomodular.application.order;
+
+import com.example.monolitomodular.application.order.dto.OrderResponse;
+import com.example.monolitomodular.domain.order.Order;
+import com.example.monolitomodular.domain.order.OrderItem;
+import com.example.monolitomodular.domain.order.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH: montagem do OrderResponse a partir do agregado (caminho de toda leitura de pedido).
+ * Executar com: mvn -Pjmh test
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderResponseBenchmarks {
+
+	@Param({"1", "10", "100", "1000"})
+	private int itemCount;
+
+	private Order storedTotal;
+	private Order computedTotal;
+
+	@Setup
+	public void setUp() {
+		List<OrderItem> items = new ArrayList<>(itemCount);
+		for (int i = 0; i < itemCount; i++) {
+			items.add(OrderItem.reconstitute((long) i + 1, "Produto " + i, i % 5 + 1, new BigDecimal("19.90")));
+		}
+		computedTotal = Order.reconstitute(1L, 1L, LocalDateTime.now(), OrderStatus.PENDING, items, null, 0L);
+		storedTotal = Order.reconstitute(1L, 1L, LocalDateTime.now(), OrderStatus.PENDING, items,
+			computedTotal.calculateTotal(), 0L);
+	}
+
+	@Benchmark
+	public OrderResponse toResponse() {
+		return GetOrderUseCase.toResponse(storedTotal);
+	}
+
+	@Benchmark
+	public OrderResponse toResponseComputingTotal() {
+		return GetOrderUseCase.toResponse(computedTotal);
+	}
+
+}
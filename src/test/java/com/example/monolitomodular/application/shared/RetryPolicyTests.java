@@ -0,0 +1,49 @@
+package com.example.monolitomodular.application.shared;
+
+import com.example.monolitomodular.domain.shared.ConcurrencyConflictException;
+import com.example.monolitomodular.domain.shared.DomainException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryPolicyTests {
+
+	private final RetryPolicy policy = new RetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(5));
+
+	@Test
+	void retriesConflictsUntilTheOperationSucceeds() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		String result = policy.execute(() -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw new ConcurrencyConflictException("conflito");
+			}
+			return "ok";
+		});
+
+		assertThat(result).isEqualTo("ok");
+		assertThat(attempts).hasValue(3);
+	}
+
+	@Test
+	void givesUpAfterMaxAttemptsAndDoesNotRetryOtherErrors() {
+		AtomicInteger conflicts = new AtomicInteger();
+		AtomicInteger failures = new AtomicInteger();
+
+		assertThatThrownBy(() -> policy.run(() -> {
+			conflicts.incrementAndGet();
+			throw new ConcurrencyConflictException("conflito");
+		})).isInstanceOf(ConcurrencyConflictException.class);
+		assertThatThrownBy(() -> policy.run(() -> {
+			failures.incrementAndGet();
+			throw new DomainException("inválido");
+		})).isInstanceOf(DomainException.class);
+
+		assertThat(conflicts).hasValue(3);
+		assertThat(failures).hasValue(1);
+	}
+}
@@ -0,0 +1,95 @@
+package com.example.monolitomodular.benchmark;
+
+import com.example.monolitomodular.application.order.CreateOrderUseCase;
+import com.example.monolitomodular.application.order.dto.CreateOrderRequest;
+import com.example.monolitomodular.application.order.dto.OrderItemRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Mede inserts por segundo do CreateOrderUseCase com listas grandes de itens. Depois do
+ * aquecimento ({@code WARMUP}), roda {@code ITERATIONS} medições e imprime cada uma e o resumo (média,
+ * desvio padrão, mínimo e máximo), para separar diferença real de ruído.
+ * Executar com: mvn -Pbenchmark test
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+	"spring.jpa.show-sql=false",
+	"spring.jpa.properties.hibernate.generate_statistics=true",
+	"logging.level.org.hibernate.SQL=WARN",
+	"logging.level.com.example.monolitomodular=INFO"
+})
+class CreateOrderInsertBenchmark {
+
+	private static final long CUSTOMER_ID = 1L;
+	private static final Duration WARMUP = Duration.ofSeconds(30);
+	private static final int ITERATIONS = 10;
+	private static final int ORDERS_PER_ITERATION = 200;
+
+	@Autowired
+	private CreateOrderUseCase createOrderUseCase;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@ParameterizedTest(name = "{0} itens por pedido")
+	@ValueSource(ints = {10, 50, 200})
+	void createOrders(int itemsPerOrder) {
+		CreateOrderRequest request = request(itemsPerOrder);
+		// Em 1 CPU o JIT leva dezenas de segundos para estabilizar: aquece por tempo, não por contagem
+		long warmupEnd = System.nanoTime() + WARMUP.toNanos();
+		while (System.nanoTime() < warmupEnd) {
+			measure(request);
+		}
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		double[] ordersPerSecond = new double[ITERATIONS];
+		for (int i = 0; i < ITERATIONS; i++) {
+			ordersPerSecond[i] = measure(request);
+			System.out.printf("[benchmark] itens=%d iteração=%d pedidos/s=%.1f%n", itemsPerOrder, i + 1, ordersPerSecond[i]);
+		}
+
+		DoubleSummaryStatistics summary = Arrays.stream(ordersPerSecond).summaryStatistics();
+		double variance = Arrays.stream(ordersPerSecond)
+			.map(value -> Math.pow(value - summary.getAverage(), 2))
+			.sum() / (ITERATIONS - 1);
+		System.out.printf("[benchmark] itens=%d pedidos/s=%.1f ±%.1f (min %.1f, max %.1f) statements/pedido=%.1f%n",
+			itemsPerOrder,
+			summary.getAverage(),
+			Math.sqrt(variance),
+			summary.getMin(),
+			summary.getMax(),
+			(double) statistics.getPrepareStatementCount() / (ITERATIONS * ORDERS_PER_ITERATION));
+	}
+
+	private double measure(CreateOrderRequest request) {
+		long start = System.nanoTime();
+		for (int i = 0; i < ORDERS_PER_ITERATION; i++) {
+			createOrderUseCase.execute(request);
+		}
+		return ORDERS_PER_ITERATION / ((System.nanoTime() - start) / 1_000_000_000.0);
+	}
+
+	private static CreateOrderRequest request(int itemsPerOrder) {
+		List<OrderItemRequest> items = IntStream.range(0, itemsPerOrder)
+			.mapToObj(i -> new OrderItemRequest("Produto " + i, i % 5 + 1, new BigDecimal("19.90")))
+			.toList();
+		return new CreateOrderRequest(CUSTOMER_ID, items);
+	}
+
+}
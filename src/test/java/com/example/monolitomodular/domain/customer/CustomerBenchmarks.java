@@ -0,0 +1,51 @@
+package com.example.monolitomodular.domain.customer;
+
+import com.example.monolitomodular.domain.shared.DomainException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH: Customer.create (validação de nome, regex de email e telefone).
+ * Executar com: mvn -Pjmh test
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerBenchmarks {
+
+	private String name = "Maria Silva";
+	private String email = "maria.silva@example.com";
+	private String phone = "(11) 98765-4321";
+
+	@Benchmark
+	public Customer create() {
+		return Customer.create(name, email, phone);
+	}
+
+	@Benchmark
+	public Customer createWithoutPhone() {
+		return Customer.create(name, email, null);
+	}
+
+	@Benchmark
+	public Object rejectInvalidEmail() {
+		try {
+			return Customer.create(name, "maria.silva.example.com", phone);
+		} catch (DomainException e) {
+			return e;
+		}
+	}
+
+}
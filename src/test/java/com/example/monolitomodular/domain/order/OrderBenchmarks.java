@@ -0,0 +1,69 @@
+package com.example.monolitomodular.domain.order;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH: cálculo de total e criação/validação de pedidos e itens.
+ * Executar com: mvn -Pjmh test
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBenchmarks {
+
+	@State(Scope.Benchmark)
+	public static class Items {
+
+		@Param({"1", "10", "100", "1000"})
+		int itemCount;
+
+		Order order;
+
+		@Setup
+		public void setUp() {
+			List<OrderItem> items = new ArrayList<>(itemCount);
+			for (int i = 0; i < itemCount; i++) {
+				items.add(OrderItem.reconstitute((long) i + 1, "Produto " + i, i % 5 + 1, new BigDecimal("19.90")));
+			}
+			order = Order.reconstitute(1L, 1L, LocalDateTime.now(), OrderStatus.PENDING, items, null, 0L);
+		}
+	}
+
+	@Benchmark
+	public BigDecimal calculateTotal(Items items) {
+		return items.order.calculateTotal();
+	}
+
+	@Benchmark
+	public Order createOrderWithItems(Items items) {
+		Order created = Order.create(1L);
+		for (int i = 0; i < items.itemCount; i++) {
+			created.addItem(OrderItem.create("Produto " + i, i % 5 + 1, new BigDecimal("19.90")));
+		}
+		return created;
+	}
+
+	@Benchmark
+	public OrderItem createItem() {
+		return OrderItem.create("Teclado", 2, new BigDecimal("250.00"));
+	}
+
+}
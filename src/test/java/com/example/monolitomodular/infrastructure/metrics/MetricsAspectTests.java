@@ -0,0 +1,99 @@
+package com.example.monolitomodular.infrastructure.metrics;
+
+import com.example.monolitomodular.application.customer.GetCustomerUseCase;
+import com.example.monolitomodular.domain.customer.Customer;
+import com.example.monolitomodular.domain.customer.CustomerRepository;
+import com.example.monolitomodular.domain.shared.DomainException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetricsAspectTests {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	void timesUseCasesAndRepositoriesTaggingFailures() {
+		CustomerRepository repository = proxy(new SingleCustomerRepository());
+		GetCustomerUseCase useCase = proxy(new GetCustomerUseCase(repository));
+
+		useCase.findById(1L);
+		assertThatThrownBy(() -> useCase.findById(2L)).isInstanceOf(DomainException.class);
+
+		assertThat(registry.get(MetricsAspect.USE_CASE_TIMER)
+			.tags("usecase", "GetCustomerUseCase", "method", "findById", "exception", "none")
+			.timer().count()).isEqualTo(1);
+		assertThat(registry.get(MetricsAspect.USE_CASE_TIMER)
+			.tags("usecase", "GetCustomerUseCase", "method", "findById", "exception", "DomainException")
+			.timer().count()).isEqualTo(1);
+		assertThat(registry.get(MetricsAspect.REPOSITORY_TIMER)
+			.tags("repository", "SingleCustomerRepository", "method", "findById")
+			.timer().count()).isEqualTo(2);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T proxy(T target) {
+		AspectJProxyFactory factory = new AspectJProxyFactory(target);
+		factory.setProxyTargetClass(true);
+		factory.addAspect(new MetricsAspect(registry));
+		return (T) factory.getProxy();
+	}
+
+	static class SingleCustomerRepository implements CustomerRepository {
+
+		private final Customer customer = Customer.reconstitute(1L, "Maria Silva", "maria@example.com", null, 0L);
+
+		@Override
+		public Customer save(Customer customer) {
+			return customer;
+		}
+
+		@Override
+		public Optional<Customer> findById(Long id) {
+			return id.equals(customer.getId()) ? Optional.of(customer) : Optional.empty();
+		}
+
+		@Override
+		public boolean existsById(Long id) {
+			return findById(id).isPresent();
+		}
+
+		@Override
+		public boolean existsAllById(Collection<Long> ids) {
+			return Set.of(customer.getId()).containsAll(ids);
+		}
+
+		@Override
+		public Optional<Customer> findByEmail(String email) {
+			return Optional.empty();
+		}
+
+		@Override
+		public List<Customer> findAll() {
+			return List.of(customer);
+		}
+
+		@Override
+		public boolean existsByEmail(String email) {
+			return false;
+		}
+
+		@Override
+		public Set<Long> findExistingIds(Collection<Long> ids) {
+			return Set.of(customer.getId());
+		}
+
+		@Override
+		public void delete(Long id) {
+		}
+	}
+
+}
@@ -0,0 +1,134 @@
+package com.example.monolitomodular.infrastructure.outbox;
+
+import com.example.monolitomodular.domain.order.OrderCreated;
+import com.example.monolitomodular.domain.order.OrderStatus;
+import com.example.monolitomodular.domain.order.OrderStatusChanged;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(OutboxWriter.class)
+class OutboxRelayTests {
+
+	@Autowired
+	private OutboxWriter outboxWriter;
+
+	@Autowired
+	private JpaOutboxRepository outboxRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final List<OutboxMessage> published = new ArrayList<>();
+	private final OutboxLagTracker lagTracker = new OutboxLagTracker();
+
+	@BeforeEach
+	void setUp() {
+		for (long orderId = 1; orderId <= 5; orderId++) {
+			append(orderId);
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		// só tem efeito no teste sem transação; nos demais o rollback já limpa
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> outboxRepository.deleteAllInBatch());
+	}
+
+	@Test
+	void drainsInBatchesInOrderAndDeletesDispatchedEvents() {
+		OutboxRelay relay = relay(published::addAll, 4);
+
+		relay.relay();
+
+		assertThat(published).hasSize(10);
+		assertThat(published).extracting(OutboxMessage::id).isSorted();
+		assertThat(published.get(0).event()).isInstanceOf(OrderCreated.class);
+		assertThat(published.get(1).event()).isEqualTo(
+			new OrderStatusChanged(OrderStatus.CONFIRMED, published.get(1).event().occurredAt()));
+		assertThat(outboxRepository.count()).isZero();
+		assertThat(lagTracker.lag()).isLessThan(Duration.ofSeconds(1));
+	}
+
+	@Test
+	void failedBatchStaysInTheOutbox() {
+		OutboxRelay relay = relay(messages -> {
+			throw new IllegalStateException("sink fora do ar");
+		}, 4);
+
+		relay.relay();
+
+		assertThat(outboxRepository.count()).isEqualTo(10);
+		assertThat(lagTracker.lag()).isGreaterThan(Duration.ofDays(1));
+	}
+
+	/**
+	 * Sem a transação do teste, para que cada entrega tenha a sua de verdade.
+	 */
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	void failingMessageDoesNotHoldBackTheOthersAndIsParkedAfterMaxAttempts() {
+		OutboxRelay relay = relay(messages -> {
+			for (OutboxMessage message : messages) {
+				if (message.aggregateId() == 2L && message.event() instanceof OrderCreated) {
+					throw new IllegalStateException("listener quebrado");
+				}
+			}
+			published.addAll(messages);
+		}, 10, 2);
+
+		relay.relay();
+
+		// o evento seguinte do pedido 2 espera o primeiro; os dos outros pedidos passam
+		assertThat(published).extracting(OutboxMessage::aggregateId).containsExactly(1L, 1L, 3L, 3L, 4L, 4L, 5L, 5L);
+		assertThat(outboxRepository.findAll()).extracting(OutboxEventEntity::getAggregateId).containsOnly(2L);
+
+		append(6L);
+		relay.relay();
+		relay.relay();
+
+		assertThat(published).extracting(OutboxMessage::aggregateId)
+			.containsExactly(1L, 1L, 3L, 3L, 4L, 4L, 5L, 5L, 6L, 6L, 2L);
+		List<OutboxEventEntity> remaining = outboxRepository.findAll();
+		assertThat(remaining).singleElement().satisfies(event -> {
+			assertThat(event.getAggregateId()).isEqualTo(2L);
+			assertThat(event.getType()).isEqualTo("OrderCreated");
+			assertThat(event.getAttempts()).isEqualTo(2);
+			assertThat(event.getParkedAt()).isNotNull();
+		});
+		assertThat(lagTracker.lag()).isLessThan(Duration.ofSeconds(1));
+	}
+
+	private void append(long orderId) {
+		LocalDateTime now = LocalDateTime.now();
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> outboxWriter.append(orderId, List.of(
+			new OrderCreated(1L, new BigDecimal("10.00"), 1, now),
+			new OrderStatusChanged(OrderStatus.CONFIRMED, now))));
+	}
+
+	private OutboxRelay relay(OutboxSink sink, int batchSize) {
+		return relay(sink, batchSize, 5);
+	}
+
+	private OutboxRelay relay(OutboxSink sink, int batchSize, int maxAttempts) {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		return new OutboxRelay(outboxRepository, sink, template, lagTracker, batchSize, maxAttempts);
+	}
+
+}
@@ -0,0 +1,163 @@
+package com.example.monolitomodular.infrastructure.persistence.customer;
+
+import com.example.monolitomodular.domain.customer.Customer;
+import com.example.monolitomodular.domain.customer.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingCustomerRepositoryTests {
+
+	private CountingCustomerRepository delegate;
+
+	private CachingCustomerRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		delegate = new CountingCustomerRepository();
+		delegate.save(Customer.reconstitute(1L, "João Silva", "joao@example.com", null, 0L));
+		delegate.reads = 0;
+		repository = new CachingCustomerRepository(delegate, 100, Duration.ofMinutes(1));
+	}
+
+	@Test
+	void findByIdIsServedFromCacheAfterFirstRead() {
+		repository.findById(1L);
+		repository.findById(1L);
+
+		assertThat(repository.findById(1L)).hasValueSatisfying(c -> assertThat(c.getName()).isEqualTo("João Silva"));
+		assertThat(delegate.reads).isEqualTo(1);
+	}
+
+	@Test
+	void missingCustomersAreNotCached() {
+		assertThat(repository.findById(2L)).isEmpty();
+		delegate.save(Customer.reconstitute(2L, "Maria Santos", "maria@example.com", null, 0L));
+
+		assertThat(repository.findById(2L)).isPresent();
+	}
+
+	@Test
+	void findByEmailAndExistsByEmailUseCache() {
+		repository.findByEmail("joao@example.com");
+		int reads = delegate.reads;
+
+		assertThat(repository.findByEmail("joao@example.com")).isPresent();
+		assertThat(repository.existsByEmail("joao@example.com")).isTrue();
+		assertThat(repository.findExistingIds(List.of(1L))).containsExactly(1L);
+		assertThat(repository.existsById(1L)).isTrue();
+		assertThat(repository.existsAllById(List.of(1L))).isTrue();
+		assertThat(delegate.reads).isEqualTo(reads);
+	}
+
+	@Test
+	void saveAndDeleteInvalidate() {
+		repository.findByEmail("joao@example.com");
+
+		repository.save(Customer.reconstitute(1L, "João Silva", "joao.silva@example.com", null, 0L));
+		assertThat(repository.existsByEmail("joao@example.com")).isFalse();
+		assertThat(repository.findById(1L)).hasValueSatisfying(c -> assertThat(c.getEmail()).isEqualTo("joao.silva@example.com"));
+
+		repository.delete(1L);
+		assertThat(repository.findById(1L)).isEmpty();
+	}
+
+	@Test
+	void emailChangeKeepsOtherCustomersCached() {
+		delegate.save(Customer.reconstitute(2L, "Maria Santos", "maria@example.com", null, 0L));
+		repository.findByEmail("joao@example.com");
+		repository.findByEmail("maria@example.com");
+		int reads = delegate.reads;
+
+		repository.save(Customer.reconstitute(1L, "João Silva", "joao.silva@example.com", null, 0L));
+
+		assertThat(repository.findByEmail("maria@example.com")).isPresent();
+		assertThat(delegate.reads).isEqualTo(reads);
+		assertThat(repository.findByEmail("joao@example.com")).isEmpty();
+		assertThat(repository.findByEmail("joao.silva@example.com")).hasValueSatisfying(c -> assertThat(c.getId()).isEqualTo(1L));
+	}
+
+	@Test
+	void returnedInstancesAreCopies() {
+		Customer first = repository.findById(1L).orElseThrow();
+		first.updateInfo("Outro Nome", "outro@example.com", null);
+
+		assertThat(repository.findById(1L)).hasValueSatisfying(c -> assertThat(c.getName()).isEqualTo("João Silva"));
+	}
+
+	private static class CountingCustomerRepository implements CustomerRepository {
+
+		private final Map<Long, Customer> customers = new HashMap<>();
+
+		private int reads;
+
+		@Override
+		public Customer save(Customer customer) {
+			customers.put(customer.getId(), customer);
+			return customer;
+		}
+
+		@Override
+		public Optional<Customer> findById(Long id) {
+			reads++;
+			return Optional.ofNullable(customers.get(id));
+		}
+
+		@Override
+		public boolean existsById(Long id) {
+			reads++;
+			return customers.containsKey(id);
+		}
+
+		@Override
+		public boolean existsAllById(Collection<Long> ids) {
+			reads++;
+			return customers.keySet().containsAll(ids);
+		}
+
+		@Override
+		public Optional<Customer> findByEmail(String email) {
+			reads++;
+			return customers.values().stream().filter(c -> c.getEmail().equals(email)).findFirst();
+		}
+
+		@Override
+		public List<Customer> findAll() {
+			reads++;
+			return List.copyOf(customers.values());
+		}
+
+		@Override
+		public boolean existsByEmail(String email) {
+			reads++;
+			return customers.values().stream().anyMatch(c -> c.getEmail().equals(email));
+		}
+
+		@Override
+		public Set<Long> findExistingIds(Collection<Long> ids) {
+			if (!ids.isEmpty()) {
+				reads++;
+			}
+			Set<Long> existing = new HashSet<>(ids);
+			existing.retainAll(customers.keySet());
+			return existing;
+		}
+
+		@Override
+		public void delete(Long id) {
+			customers.remove(id);
+		}
+
+	}
+
+}
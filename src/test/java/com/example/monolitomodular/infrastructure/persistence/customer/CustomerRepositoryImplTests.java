@@ -0,0 +1,39 @@
+package com.example.monolitomodular.infrastructure.persistence.customer;
+
+import com.example.monolitomodular.domain.customer.Customer;
+import com.example.monolitomodular.domain.shared.DomainException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class CustomerRepositoryImplTests {
+
+	@Autowired
+	private CustomerRepositoryImpl customerRepository;
+
+	@Test
+	void duplicateEmailIsReportedAsDomainError() {
+		String email = UUID.randomUUID() + "@example.com";
+		customerRepository.save(Customer.create("Primeiro Cliente", email, null));
+
+		assertThatThrownBy(() -> customerRepository.save(Customer.create("Segundo Cliente", email, null)))
+			.isInstanceOf(DomainException.class)
+			.hasMessageContaining("Email já cadastrado");
+	}
+
+	@Test
+	void otherIntegrityViolationsAreNotReportedAsDuplicateEmail() {
+		Customer tooLong = Customer.create("N".repeat(101), UUID.randomUUID() + "@example.com", null);
+
+		assertThatThrownBy(() -> customerRepository.save(tooLong))
+			.isInstanceOf(DataIntegrityViolationException.class)
+			.isNotInstanceOf(DomainException.class);
+	}
+
+}
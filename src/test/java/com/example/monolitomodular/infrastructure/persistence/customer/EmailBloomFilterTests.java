@@ -0,0 +1,41 @@
+package com.example.monolitomodular.infrastructure.persistence.customer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailBloomFilterTests {
+
+	@Test
+	void answersMaybeUntilLoaded() {
+		EmailBloomFilter filter = new EmailBloomFilter(1_000, 0.01);
+
+		assertThat(filter.mightContain("novo@example.com")).isTrue();
+
+		filter.markLoaded();
+		assertThat(filter.mightContain("novo@example.com")).isFalse();
+	}
+
+	@Test
+	void hasNoFalseNegativesAndRespectsFalsePositiveRate() {
+		int insertions = 10_000;
+		EmailBloomFilter filter = new EmailBloomFilter(insertions, 0.01);
+		for (int i = 0; i < insertions; i++) {
+			filter.put("cliente" + i + "@example.com");
+		}
+		filter.markLoaded();
+
+		for (int i = 0; i < insertions; i++) {
+			assertThat(filter.mightContain("cliente" + i + "@example.com")).isTrue();
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < insertions; i++) {
+			if (filter.mightContain("outro" + i + "@example.org")) {
+				falsePositives++;
+			}
+		}
+		assertThat((double) falsePositives / insertions).isLessThan(0.02);
+	}
+
+}
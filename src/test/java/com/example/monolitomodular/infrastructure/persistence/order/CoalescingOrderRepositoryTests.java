@@ -0,0 +1,124 @@
+package com.example.monolitomodular.infrastructure.persistence.order;
+
+import com.example.monolitomodular.domain.order.Order;
+import com.example.monolitomodular.domain.order.OrderItem;
+import com.example.monolitomodular.domain.order.OrderStatus;
+import com.example.monolitomodular.domain.shared.DomainException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingOrderRepositoryTests {
+
+	private static final long FAILING_CUSTOMER = 666L;
+
+	private final RecordingOrderRepository delegate = new RecordingOrderRepository();
+
+	private final ExecutorService callers = Executors.newFixedThreadPool(8);
+
+	private CoalescingOrderRepository repository;
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		callers.shutdownNow();
+		repository.destroy();
+	}
+
+	@Test
+	void concurrentInsertsShareOneBatchAndEachCallerGetsItsOwnOrder() {
+		repository = new CoalescingOrderRepository(delegate, null, 8, Duration.ofSeconds(5), 1, 100);
+
+		List<CompletableFuture<Order>> saves = new ArrayList<>();
+		for (long customerId = 1; customerId <= 8; customerId++) {
+			Order order = newOrder(customerId);
+			saves.add(CompletableFuture.supplyAsync(() -> repository.save(order), callers));
+		}
+
+		for (int i = 0; i < saves.size(); i++) {
+			Order saved = saves.get(i).join();
+			assertThat(saved.getCustomerId()).isEqualTo(i + 1L);
+			assertThat(saved.getId()).isNotNull();
+		}
+		assertThat(delegate.batches).containsExactly(8);
+	}
+
+	@Test
+	void failedBatchIsRetriedOneByOneAndOnlyTheBadOrderFails() {
+		repository = new CoalescingOrderRepository(delegate, null, 3, Duration.ofSeconds(5), 1, 100);
+
+		CompletableFuture<Order> first = CompletableFuture.supplyAsync(() -> repository.save(newOrder(1L)), callers);
+		CompletableFuture<Order> bad = CompletableFuture.supplyAsync(() -> repository.save(newOrder(FAILING_CUSTOMER)), callers);
+		CompletableFuture<Order> last = CompletableFuture.supplyAsync(() -> repository.save(newOrder(2L)), callers);
+
+		assertThat(first.join().getId()).isNotNull();
+		assertThat(last.join().getId()).isNotNull();
+		assertThatThrownBy(bad::join).hasCauseInstanceOf(DomainException.class);
+		assertThat(delegate.batches).containsExactly(3);
+		assertThat(delegate.singleSaves).hasSize(3);
+	}
+
+	@Test
+	void lonelyInsertWaitsAtMostMaxWait() {
+		repository = new CoalescingOrderRepository(delegate, null, 50, Duration.ofMillis(5), 1, 100);
+
+		long start = System.nanoTime();
+		Order saved = repository.save(newOrder(1L));
+
+		assertThat(saved.getId()).isNotNull();
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+		assertThat(delegate.batches).containsExactly(1);
+	}
+
+	private Order newOrder(Long customerId) {
+		Order order = Order.create(customerId);
+		order.addItem(OrderItem.create("Produto", 1, new BigDecimal("10.00")));
+		return order;
+	}
+
+	static class RecordingOrderRepository extends OrderRepositoryImpl {
+
+		private final AtomicLong ids = new AtomicLong();
+		final List<Integer> batches = new CopyOnWriteArrayList<>();
+		final List<Long> singleSaves = new CopyOnWriteArrayList<>();
+
+		RecordingOrderRepository() {
+			super(null, null, null, null);
+		}
+
+		@Override
+		public List<Order> saveAll(List<Order> orders) {
+			batches.add(orders.size());
+			if (orders.stream().anyMatch(order -> order.getCustomerId() == FAILING_CUSTOMER)) {
+				throw new DomainException("Pedido inválido");
+			}
+			return orders.stream().map(this::withId).toList();
+		}
+
+		@Override
+		public Order save(Order order) {
+			singleSaves.add(order.getCustomerId());
+			if (order.getCustomerId() == FAILING_CUSTOMER) {
+				throw new DomainException("Pedido inválido");
+			}
+			return withId(order);
+		}
+
+		private Order withId(Order order) {
+			return Order.reconstitute(ids.incrementAndGet(), order.getCustomerId(), order.getCreatedAt(),
+				OrderStatus.PENDING, order.getItems(), order.getTotal(), 0L);
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.example.monolitomodular.infrastructure.persistence.order;
+
+import com.example.monolitomodular.domain.order.Order;
+import com.example.monolitomodular.domain.order.OrderItem;
+import com.example.monolitomodular.domain.order.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reivindicação com SELECT ... FOR UPDATE SKIP LOCKED num PostgreSQL de verdade (no H2 o
+ * repositório usa os UPDATEs condicionais). Precisa de Docker; sem ele o teste é pulado.
+ */
+@SpringBootTest
+@ActiveProfiles("prod")
+@Testcontainers(disabledWithoutDocker = true)
+class OrderClaimPostgresTests {
+
+	private static final int ORDERS = 200;
+	private static final int CLAIMERS = 8;
+	private static final int BATCH_SIZE = 7;
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:17-alpine");
+
+	@Autowired
+	private OrderRepositoryImpl orderRepository;
+
+	@Test
+	void concurrentClaimersReceiveEachOrderExactlyOnce() throws Exception {
+		List<Order> orders = new ArrayList<>();
+		for (int i = 0; i < ORDERS; i++) {
+			Order order = Order.create(1L);
+			order.addItem(OrderItem.create("Produto " + i, 1, new BigDecimal("10.00")));
+			order.confirm();
+			orders.add(order);
+		}
+		List<Long> confirmed = orderRepository.saveAll(orders).stream().map(Order::getId).toList();
+
+		ExecutorService executor = Executors.newFixedThreadPool(CLAIMERS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<List<Long>>> claimers = new ArrayList<>();
+		for (int i = 0; i < CLAIMERS; i++) {
+			claimers.add(executor.submit(() -> {
+				start.await();
+				List<Long> claimed = new ArrayList<>();
+				List<Order> batch;
+				do {
+					// Com SKIP LOCKED não há conflito: uma exceção aqui falha o teste
+					batch = orderRepository.claim(OrderStatus.CONFIRMED, OrderStatus.PREPARING, BATCH_SIZE);
+					assertThat(batch).hasSizeLessThanOrEqualTo(BATCH_SIZE);
+					batch.forEach(order -> claimed.add(order.getId()));
+				} while (!batch.isEmpty());
+				return claimed;
+			}));
+		}
+		start.countDown();
+
+		List<Long> claimed = new ArrayList<>();
+		try {
+			for (Future<List<Long>> claimer : claimers) {
+				claimed.addAll(claimer.get(1, TimeUnit.MINUTES));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(claimed).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(confirmed);
+		assertThat(orderRepository.countByStatus())
+			.containsEntry(OrderStatus.PREPARING, (long) ORDERS)
+			.doesNotContainKey(OrderStatus.CONFIRMED);
+	}
+
+}
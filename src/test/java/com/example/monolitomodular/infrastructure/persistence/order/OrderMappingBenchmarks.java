@@ -0,0 +1,65 @@
+package com.example.monolitomodular.infrastructure.persistence.order;
+
+import com.example.monolitomodular.domain.order.Order;
+import com.example.monolitomodular.domain.order.OrderItem;
+import com.example.monolitomodular.domain.order.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH: mapeamento domínio <-> JPA do OrderRepositoryImpl (sem banco).
+ * Executar com: mvn -Pjmh test
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMappingBenchmarks {
+
+	@Param({"1", "10", "100", "1000"})
+	private int itemCount;
+
+	private OrderRepositoryImpl repository;
+	private Order order;
+	private OrderEntity entity;
+
+	@Setup
+	public void setUp() {
+		repository = new OrderRepositoryImpl(null, null, null, null);
+
+		List<OrderItem> items = new ArrayList<>(itemCount);
+		for (int i = 0; i < itemCount; i++) {
+			items.add(OrderItem.reconstitute((long) i + 1, "Produto " + i, i % 5 + 1, new BigDecimal("19.90")));
+		}
+		order = Order.reconstitute(1L, 1L, LocalDateTime.now(), OrderStatus.PENDING, items, null, 0L);
+		entity = repository.toEntity(order);
+	}
+
+	@Benchmark
+	public OrderEntity toEntity() {
+		return repository.toEntity(order);
+	}
+
+	@Benchmark
+	public Order toDomain() {
+		return repository.toDomain(entity);
+	}
+
+}
@@ -0,0 +1,269 @@
+package com.example.monolitomodular.infrastructure.persistence.order;
+
+import com.example.monolitomodular.domain.order.CustomerOrderStats;
+import com.example.monolitomodular.domain.order.Order;
+import com.example.monolitomodular.domain.order.OrderItem;
+import com.example.monolitomodular.domain.order.OrderStatus;
+import com.example.monolitomodular.domain.order.OrderSummary;
+import com.example.monolitomodular.domain.shared.ConcurrencyConflictException;
+import com.example.monolitomodular.infrastructure.outbox.JpaOutboxRepository;
+import com.example.monolitomodular.infrastructure.outbox.OutboxEventEntity;
+import com.example.monolitomodular.infrastructure.outbox.OutboxWriter;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({OrderRepositoryImpl.class, OutboxWriter.class})
+class OrderRepositoryImplTests {
+
+	private static final long CUSTOMER_ID = 3L;
+	private static final int ORDERS = 20;
+	private static final int ITEMS_PER_ORDER = 3;
+
+	@Autowired
+	private OrderRepositoryImpl orderRepository;
+
+	@Autowired
+	private JpaOutboxRepository outboxRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < ORDERS; i++) {
+			Order order = Order.create(CUSTOMER_ID);
+			for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+				order.addItem(OrderItem.create("Produto " + j, j + 1, new BigDecimal("10.00")));
+			}
+			orderRepository.save(order);
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void findByCustomerIdLoadsItemsWithoutNPlusOne() {
+		List<Order> orders = orderRepository.findByCustomerId(CUSTOMER_ID);
+
+		assertThat(orders).hasSize(ORDERS)
+			.allSatisfy(order -> assertThat(order.getItems()).hasSize(ITEMS_PER_ORDER));
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void findPageLoadsItemsWithoutNPlusOne() {
+		List<Order> orders = orderRepository.findPage(null, 10);
+
+		assertThat(orders).hasSize(10).allSatisfy(order -> assertThat(order.getItems()).isNotEmpty());
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void findAllLoadsItemsWithoutNPlusOne() {
+		List<Order> orders = orderRepository.findAll();
+
+		assertThat(orders).hasSizeGreaterThan(ORDERS);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void statusTransitionIssuesSingleUpdate() {
+		Order order = orderRepository.findPage(null, 1).get(0);
+		statistics.clear();
+
+		order.cancel();
+		orderRepository.save(order);
+
+		// SELECT do pedido, UPDATE só do status e INSERT do evento no outbox
+		assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+		assertThat(statistics.getEntityDeleteCount()).isZero();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+		assertThat(orderRepository.findById(order.getId()))
+			.hasValueSatisfying(saved -> assertThat(saved.getStatus()).isEqualTo(OrderStatus.CANCELLED));
+	}
+
+	@Test
+	void itemChangesOnlyTouchChangedRows() {
+		Order order = orderRepository.findByCustomerId(CUSTOMER_ID).get(0);
+		List<OrderItem> items = order.getItems();
+		Order changed = Order.reconstitute(order.getId(), order.getCustomerId(), order.getCreatedAt(),
+			order.getStatus(), List.of(items.get(0), items.get(1)), order.getTotal(), order.getVersion());
+		changed.addItem(OrderItem.create("Produto novo", 1, new BigDecimal("5.00")));
+		statistics.clear();
+
+		Order saved = orderRepository.save(changed);
+
+		// só o pedido (total_amount) é atualizado; os itens mantidos não geram UPDATE
+		assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+		assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+		assertThat(saved.getItems()).hasSize(ITEMS_PER_ORDER)
+			.allSatisfy(item -> assertThat(item.getId()).isNotNull());
+		assertThat(saved.getTotal()).isEqualByComparingTo("35.00");
+	}
+
+	@Test
+	void transitionIsASingleConditionalUpdate() {
+		Long id = orderRepository.findByCustomerId(CUSTOMER_ID).get(0).getId();
+		statistics.clear();
+
+		boolean confirmed = orderRepository.transition(id, OrderStatus.confirmable(), OrderStatus.CONFIRMED);
+		boolean confirmedAgain = orderRepository.transition(id, OrderStatus.confirmable(), OrderStatus.CONFIRMED);
+		entityManager.flush();
+
+		assertThat(confirmed).isTrue();
+		assertThat(confirmedAgain).isFalse();
+		// 2 UPDATEs condicionais + o INSERT do evento da transição que aconteceu
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+		assertThat(outboxEvents(id)).extracting(OutboxEventEntity::getType)
+			.containsExactly("OrderCreated", "OrderStatusChanged");
+	}
+
+	@Test
+	void saveRejectsAnOrderReadBeforeAConcurrentChange() {
+		Order stale = orderRepository.findByCustomerId(CUSTOMER_ID).get(0);
+		assertThat(orderRepository.transition(stale.getId(), OrderStatus.confirmable(), OrderStatus.CONFIRMED)).isTrue();
+		entityManager.clear();
+
+		assertThat(orderRepository.findById(stale.getId()))
+			.hasValueSatisfying(current -> assertThat(current.getVersion()).isEqualTo(stale.getVersion() + 1));
+		stale.addItem(OrderItem.create("Produto novo", 1, new BigDecimal("5.00")));
+		assertThatThrownBy(() -> orderRepository.save(stale))
+			.isInstanceOf(ConcurrencyConflictException.class);
+	}
+
+	@Test
+	void versionIsReadWithoutLoadingTheOrder() {
+		Long id = orderRepository.findSummariesByCustomerId(CUSTOMER_ID).get(0).id();
+		statistics.clear();
+
+		assertThat(orderRepository.findVersionById(id)).contains(0L);
+		assertThat(orderRepository.findVersionById(-1L)).isEmpty();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	void claimMovesTheOldestOrdersInTheStatusAndLoadsTheirItems() {
+		List<Long> ids = orderRepository.findSummariesByCustomerId(CUSTOMER_ID).stream().map(OrderSummary::id).toList();
+		ids.subList(0, 4).forEach(id -> orderRepository.transition(id, OrderStatus.confirmable(), OrderStatus.CONFIRMED));
+		entityManager.flush();
+		entityManager.clear();
+
+		List<Order> first = orderRepository.claim(OrderStatus.CONFIRMED, OrderStatus.PREPARING, 3);
+		List<Order> second = orderRepository.claim(OrderStatus.CONFIRMED, OrderStatus.PREPARING, 10);
+
+		// o pedido 2 dos dados iniciais já estava confirmado; no H2 a ordem dentro da janela é aleatória
+		assertThat(first).hasSize(3);
+		assertThat(second).hasSize(2);
+		assertThat(Stream.concat(first.stream(), second.stream()).map(Order::getId))
+			.containsExactlyInAnyOrder(2L, ids.get(0), ids.get(1), ids.get(2), ids.get(3));
+		assertThat(second).allSatisfy(order -> {
+			assertThat(order.getStatus()).isEqualTo(OrderStatus.PREPARING);
+			assertThat(order.getItems()).hasSize(ITEMS_PER_ORDER);
+		});
+		assertThat(orderRepository.claim(OrderStatus.CONFIRMED, OrderStatus.PREPARING, 10)).isEmpty();
+		entityManager.flush();
+		assertThat(outboxEvents(ids.get(0))).extracting(OutboxEventEntity::getType)
+			.containsExactly("OrderCreated", "OrderStatusChanged", "OrderStatusChanged");
+	}
+
+	@Test
+	void transitionToConfirmedRequiresItems() {
+		Long id = orderRepository.save(Order.create(CUSTOMER_ID)).getId();
+
+		assertThat(orderRepository.transition(id, OrderStatus.confirmable(), OrderStatus.CONFIRMED)).isFalse();
+		assertThat(orderRepository.transition(id, OrderStatus.cancellable(), OrderStatus.CANCELLED)).isTrue();
+	}
+
+	@Test
+	void aggregatesAreComputedInSingleQueries() {
+		BigDecimal revenue = orderRepository.sumRevenue(null, null);
+		List<CustomerOrderStats> top = orderRepository.findTopCustomersByRevenue(null, null, 1);
+
+		// 20 pedidos x (1 + 2 + 3) x 10.00 para o cliente 3, mais 4400.00 dos dados iniciais
+		assertThat(revenue).isEqualByComparingTo("5600.00");
+		assertThat(top).singleElement().satisfies(stats -> {
+			assertThat(stats.customerId()).isEqualTo(1L);
+			assertThat(stats.lifetimeValue()).isEqualByComparingTo("3050.00");
+		});
+		assertThat(orderRepository.countByStatus()).containsEntry(OrderStatus.PENDING, 21L);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+	}
+
+	@Test
+	void totalsAreStoredAndUsedForFiltering() {
+		List<Order> expensive = orderRepository.findPage(null, 10, new BigDecimal("1000.00"), null);
+		List<OrderSummary> expensiveSummaries = orderRepository.findSummaries(null, 10, new BigDecimal("1000.00"), null);
+		List<Order> top = orderRepository.findTopByTotal(2);
+
+		assertThat(expensive).extracting(Order::getId).containsExactly(1L, 2L);
+		assertThat(expensiveSummaries).extracting(OrderSummary::id).containsExactly(1L, 2L);
+		assertThat(top).extracting(Order::getTotal)
+			.usingElementComparator(BigDecimal::compareTo)
+			.containsExactly(new BigDecimal("2600.00"), new BigDecimal("1350.00"));
+		assertThat(orderRepository.findByCustomerId(CUSTOMER_ID))
+			.allSatisfy(order -> assertThat(order.getTotal()).isEqualByComparingTo("60.00"));
+	}
+
+	@Test
+	void summariesAreReadWithoutTouchingItems() {
+		List<OrderSummary> page = orderRepository.findSummaries(null, 100);
+		List<OrderSummary> byCustomer = orderRepository.findSummariesByCustomerId(CUSTOMER_ID);
+
+		assertThat(page).hasSize(23);
+		assertThat(byCustomer).hasSize(20)
+			.allSatisfy(summary -> {
+				assertThat(summary.itemCount()).isEqualTo(3);
+				assertThat(summary.total()).isEqualByComparingTo("60.00");
+			});
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	void eventsAreWrittenToTheOutboxWithTheOrder() {
+		Order order = Order.create(CUSTOMER_ID);
+		order.addItem(OrderItem.create("Teclado", 2, new BigDecimal("100.00")));
+		Order saved = orderRepository.save(order);
+
+		saved.cancel();
+		orderRepository.save(saved);
+		entityManager.flush();
+
+		List<OutboxEventEntity> events = outboxEvents(saved.getId());
+		assertThat(events).extracting(OutboxEventEntity::getType)
+			.containsExactly("OrderCreated", "OrderStatusChanged");
+		assertThat(events.get(0).getPayload()).contains("\"total\":200.00", "\"itemCount\":1");
+		assertThat(events.get(1).getPayload()).contains("\"status\":\"CANCELLED\"");
+	}
+
+	private List<OutboxEventEntity> outboxEvents(Long orderId) {
+		return outboxRepository.findAll().stream()
+			.filter(event -> event.getAggregateId().equals(orderId))
+			.sorted(Comparator.comparing(OutboxEventEntity::getId))
+			.toList();
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.example.monolitomodular.infrastructure.readmodel;
+
+import com.example.monolitomodular.application.order.dto.OrderItemResponse;
+import com.example.monolitomodular.application.order.dto.OrderResponse;
+import com.example.monolitomodular.domain.order.OrderStatus;
+import com.example.monolitomodular.infrastructure.outbox.OutboxLagTracker;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JpaOrderReadModel.class, OutboxLagTracker.class})
+class JpaOrderReadModelTests {
+
+	@Autowired
+	private JpaOrderReadModel readModel;
+
+	@Autowired
+	private OutboxLagTracker lagTracker;
+
+	@Test
+	void storesTheFullResponseAndQueriesByIndexedColumns() {
+		OrderResponse small = order(1001L, 7L, OrderStatus.PENDING, "50.00");
+		OrderResponse large = order(1002L, 7L, OrderStatus.CONFIRMED, "500.00");
+		readModel.save(small);
+		readModel.save(large);
+		readModel.save(order(1003L, 8L, OrderStatus.PENDING, "120.00"));
+
+		assertThat(readModel.findById(1002L)).contains(large);
+		assertThat(readModel.findByCustomerId(7L)).containsExactly(small, large);
+		assertThat(readModel.findPage(1001L, 10, new BigDecimal("100.00"), null))
+			.extracting(OrderResponse::id).containsExactly(1002L, 1003L);
+		assertThat(readModel.findTopByTotal(2))
+			.extracting(OrderResponse::id).containsExactly(1002L, 1003L);
+	}
+
+	@Test
+	void saveReplacesTheExistingViewAndDeleteRemovesIt() {
+		readModel.save(order(1001L, 7L, OrderStatus.PENDING, "50.00"));
+		OrderResponse confirmed = order(1001L, 7L, OrderStatus.CONFIRMED, "50.00");
+
+		readModel.save(confirmed);
+
+		assertThat(readModel.findById(1001L)).contains(confirmed);
+		readModel.delete(1001L);
+		assertThat(readModel.findById(1001L)).isEmpty();
+	}
+
+	@Test
+	void isStaleUntilMarkedReadyThenFollowsTheOutboxLag() {
+		lagTracker.record(null);
+		assertThat(readModel.lag()).isGreaterThan(Duration.ofDays(1));
+
+		readModel.markReady();
+
+		assertThat(readModel.lag()).isLessThan(Duration.ofSeconds(1));
+	}
+
+	private OrderResponse order(Long id, Long customerId, OrderStatus status, String total) {
+		return new OrderResponse(id, customerId, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS), status,
+			List.of(new OrderItemResponse(1L, "Produto", 1, new BigDecimal(total), new BigDecimal(total))),
+			new BigDecimal(total), 0L);
+	}
+}
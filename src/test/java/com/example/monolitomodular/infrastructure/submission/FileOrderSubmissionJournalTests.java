@@ -0,0 +1,80 @@
+package com.example.monolitomodular.infrastructure.submission;
+
+import com.example.monolitomodular.application.order.OrderSubmission;
+import com.example.monolitomodular.application.order.dto.CreateOrderRequest;
+import com.example.monolitomodular.application.order.dto.OrderItemRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileOrderSubmissionJournalTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void entriesStayPendingUntilCheckpointedAndSurviveAReopen() throws IOException {
+		FileOrderSubmissionJournal journal = new FileOrderSubmissionJournal(directory, Long.MAX_VALUE);
+		journal.append(submission("a"));
+		journal.append(submission("b"));
+		journal.append(submission("c"));
+
+		FileOrderSubmissionJournal.Batch first = journal.next(2);
+		assertThat(first.submissions()).extracting(OrderSubmission::trackingId).containsExactly("a", "b");
+		assertThat(first.submissions().get(0)).isEqualTo(submission("a"));
+		journal.checkpoint(first);
+		assertThat(journal.isPending("a")).isFalse();
+		assertThat(journal.isPending("c")).isTrue();
+		journal.destroy();
+
+		FileOrderSubmissionJournal reopened = new FileOrderSubmissionJournal(directory, Long.MAX_VALUE);
+		assertThat(reopened.pendingCount()).isEqualTo(1);
+		assertThat(reopened.next(10).submissions()).extracting(OrderSubmission::trackingId).containsExactly("c");
+		reopened.destroy();
+	}
+
+	@Test
+	void reopenDropsATornLastLine() throws IOException {
+		FileOrderSubmissionJournal journal = new FileOrderSubmissionJournal(directory, Long.MAX_VALUE);
+		journal.append(submission("a"));
+		journal.destroy();
+		Files.writeString(directory.resolve("order-submissions.ndjson"), "{\"trackingId\":\"b\",\"acc",
+			StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+		FileOrderSubmissionJournal reopened = new FileOrderSubmissionJournal(directory, Long.MAX_VALUE);
+		reopened.append(submission("c"));
+
+		assertThat(reopened.next(10).submissions()).extracting(OrderSubmission::trackingId).containsExactly("a", "c");
+		reopened.destroy();
+	}
+
+	@Test
+	void fullyDrainedJournalIsTruncatedPastTheThreshold() throws IOException {
+		FileOrderSubmissionJournal journal = new FileOrderSubmissionJournal(directory, 1);
+		journal.append(submission("a"));
+
+		journal.checkpoint(journal.next(10));
+		journal.append(submission("b"));
+
+		assertThat(journal.next(10).submissions()).extracting(OrderSubmission::trackingId).containsExactly("b");
+		assertThat(Files.size(directory.resolve("order-submissions.ndjson")))
+			.isEqualTo(Files.readAllLines(directory.resolve("order-submissions.ndjson")).get(0).length() + 1);
+		journal.destroy();
+	}
+
+	private OrderSubmission submission(String trackingId) {
+		return new OrderSubmission(trackingId, LocalDateTime.of(2026, 1, 1, 12, 0),
+			new CreateOrderRequest(1L, List.of(new OrderItemRequest("Produto", 2, new BigDecimal("10.00")))));
+	}
+
+}
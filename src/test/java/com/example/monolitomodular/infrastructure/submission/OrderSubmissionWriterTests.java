@@ -0,0 +1,108 @@
+package com.example.monolitomodular.infrastructure.submission;
+
+import com.example.monolitomodular.application.order.GetOrderSubmissionUseCase;
+import com.example.monolitomodular.application.order.OrderSubmission;
+import com.example.monolitomodular.application.order.ProcessOrderSubmissionsUseCase;
+import com.example.monolitomodular.application.order.SubmitOrderUseCase;
+import com.example.monolitomodular.application.order.dto.CreateOrderRequest;
+import com.example.monolitomodular.application.order.dto.OrderItemRequest;
+import com.example.monolitomodular.application.order.dto.OrderSubmissionResponse;
+import com.example.monolitomodular.domain.order.OrderRepository;
+import com.example.monolitomodular.domain.shared.DomainException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+	"app.orders.async.enabled=true",
+	"app.orders.async.journal-dir=./target/test-order-journal/${random.uuid}",
+	"app.orders.async.drain-interval=1h"
+})
+class OrderSubmissionWriterTests {
+
+	@Autowired
+	private SubmitOrderUseCase submitOrderUseCase;
+
+	@Autowired
+	private GetOrderSubmissionUseCase getOrderSubmissionUseCase;
+
+	@Autowired
+	private ProcessOrderSubmissionsUseCase processOrderSubmissionsUseCase;
+
+	@Autowired
+	private OrderSubmissionWriter writer;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void trackingIdResolvesToTheOrderOnceTheJournalIsDrained() {
+		OrderSubmissionResponse accepted = submitOrderUseCase.execute(request(1L));
+		OrderSubmissionResponse unknownCustomer = submitOrderUseCase.execute(request(999L));
+		assertThat(getOrderSubmissionUseCase.execute(accepted.trackingId()).status())
+			.isEqualTo(OrderSubmissionResponse.Status.PENDING);
+
+		assertThat(writer.drainBatch()).isEqualTo(2);
+
+		OrderSubmissionResponse created = getOrderSubmissionUseCase.execute(accepted.trackingId());
+		assertThat(created.status()).isEqualTo(OrderSubmissionResponse.Status.CREATED);
+		assertThat(orderRepository.findById(created.orderId())).hasValueSatisfying(order ->
+			assertThat(order.getTotal()).isEqualByComparingTo("20.00"));
+		OrderSubmissionResponse rejected = getOrderSubmissionUseCase.execute(unknownCustomer.trackingId());
+		assertThat(rejected.status()).isEqualTo(OrderSubmissionResponse.Status.REJECTED);
+		assertThat(rejected.error()).contains("999");
+		assertThatThrownBy(() -> getOrderSubmissionUseCase.execute(UUID.randomUUID().toString()))
+			.isInstanceOf(DomainException.class);
+	}
+
+	@Test
+	void replayedSubmissionsAreSkipped() {
+		OrderSubmission submission = new OrderSubmission(UUID.randomUUID().toString(), LocalDateTime.now(), request(1L));
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		transaction.executeWithoutResult(status -> processOrderSubmissionsUseCase.execute(List.of(submission, submission)));
+		long orders = orderRepository.findByCustomerId(1L).size();
+		transaction.executeWithoutResult(status -> processOrderSubmissionsUseCase.execute(List.of(submission)));
+
+		assertThat(orderRepository.findByCustomerId(1L)).hasSize((int) orders);
+		assertThat(getOrderSubmissionUseCase.execute(submission.trackingId()).status())
+			.isEqualTo(OrderSubmissionResponse.Status.CREATED);
+	}
+
+	@Test
+	void entryThatCannotBeStoredIsRejectedWithoutBlockingTheRestOfTheBatch() {
+		OrderSubmissionResponse before = submitOrderUseCase.execute(request(1L));
+		OrderSubmissionResponse overflow = submitOrderUseCase.execute(new CreateOrderRequest(1L,
+			List.of(new OrderItemRequest("Produto", 1, new BigDecimal("1000000000000.00")))));
+		OrderSubmissionResponse after = submitOrderUseCase.execute(request(1L));
+
+		assertThat(writer.drainBatch()).isEqualTo(3);
+
+		assertThat(getOrderSubmissionUseCase.execute(before.trackingId()).status())
+			.isEqualTo(OrderSubmissionResponse.Status.CREATED);
+		assertThat(getOrderSubmissionUseCase.execute(after.trackingId()).status())
+			.isEqualTo(OrderSubmissionResponse.Status.CREATED);
+		OrderSubmissionResponse rejected = getOrderSubmissionUseCase.execute(overflow.trackingId());
+		assertThat(rejected.status()).isEqualTo(OrderSubmissionResponse.Status.REJECTED);
+		assertThat(rejected.error()).isEqualTo("Pedido com valores fora dos limites aceitos");
+		assertThat(writer.drainBatch()).isZero();
+	}
+
+	private CreateOrderRequest request(Long customerId) {
+		return new CreateOrderRequest(customerId, List.of(new OrderItemRequest("Produto", 2, new BigDecimal("10.00"))));
+	}
+
+}
@@ -0,0 +1,261 @@
+package com.example.monolitomodular.loadtest;
+
+import com.example.monolitomodular.application.customer.CreateCustomerUseCase;
+import com.example.monolitomodular.application.customer.dto.CreateCustomerRequest;
+import com.example.monolitomodular.application.order.BulkCreateOrderUseCase;
+import com.example.monolitomodular.application.order.dto.BulkOrderResult;
+import com.example.monolitomodular.application.order.dto.CreateOrderRequest;
+import com.example.monolitomodular.application.order.dto.OrderItemRequest;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Carga mista nos endpoints de pedidos e clientes a uma taxa de chegada fixa (modelo aberto).
+ * Semeia N clientes e M pedidos, dispara as requisições nos instantes planejados e mede a
+ * latência a partir do instante planejado (sem coordinated omission), com HdrHistogram.
+ *
+ * Executar com: mvn -Ploadtest test -Dtest=MixedWorkloadLoadTest
+ * Ajustes: -Dloadtest.customers=1000 -Dloadtest.orders=5000 -Dloadtest.rate=200 -Dloadtest.duration=30
+ * Banco em arquivo: -Dspring.datasource.url=jdbc:h2:file:./target/loadtest-db
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+	"spring.jpa.show-sql=false",
+	"logging.level.org.hibernate.SQL=WARN",
+	"logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+	"logging.level.com.example.monolitomodular=INFO"
+})
+class MixedWorkloadLoadTest {
+
+	private static final int CUSTOMERS = Integer.getInteger("loadtest.customers", 1000);
+	private static final int ORDERS = Integer.getInteger("loadtest.orders", 5000);
+	private static final int RATE = Integer.getInteger("loadtest.rate", 200);
+	private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration", 30);
+	private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup", 5);
+
+	private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+	/** Operações e seus pesos no mix (soma 100). */
+	private enum Operation {
+		GET_ORDER(40),
+		LIST_BY_CUSTOMER(20),
+		CREATE_ORDER(20),
+		CONFIRM_ORDER(10),
+		GET_CUSTOMER(10);
+
+		private final int weight;
+
+		Operation(int weight) {
+			this.weight = weight;
+		}
+
+		static Operation pick(int roll) {
+			for (Operation operation : values()) {
+				if (roll < operation.weight) {
+					return operation;
+				}
+				roll -= operation.weight;
+			}
+			return GET_ORDER;
+		}
+	}
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private CreateCustomerUseCase createCustomerUseCase;
+
+	@Autowired
+	private BulkCreateOrderUseCase bulkCreateOrderUseCase;
+
+	private final HttpClient client = HttpClient.newBuilder()
+		.version(HttpClient.Version.HTTP_1_1)
+		.connectTimeout(Duration.ofSeconds(5))
+		.build();
+
+	private final List<Long> customerIds = new ArrayList<>();
+	private final List<Long> orderIds = new ArrayList<>();
+	private final ConcurrentLinkedQueue<Long> pendingOrders = new ConcurrentLinkedQueue<>();
+
+	@BeforeEach
+	void seed() {
+		long start = System.nanoTime();
+		String run = Long.toString(System.currentTimeMillis(), 36);
+		for (int i = 0; i < CUSTOMERS; i++) {
+			customerIds.add(createCustomerUseCase.execute(new CreateCustomerRequest(
+				"Cliente " + i, "carga-" + run + "-" + i + "@example.com", "11987654321")).id());
+		}
+
+		List<CreateOrderRequest> orders = new ArrayList<>(ORDERS);
+		for (int i = 0; i < ORDERS; i++) {
+			orders.add(orderRequest(customerIds.get(i % CUSTOMERS)));
+		}
+		bulkCreateOrderUseCase.execute(orders).results().stream()
+			.map(BulkOrderResult::orderId)
+			.filter(Objects::nonNull)
+			.forEach(orderIds::add);
+		pendingOrders.addAll(orderIds);
+
+		System.out.printf("[loadtest] semeados clientes=%d pedidos=%d em %.1fs%n",
+			customerIds.size(), orderIds.size(), (System.nanoTime() - start) / 1_000_000_000.0);
+	}
+
+	@Test
+	void mixedWorkloadAtFixedArrivalRate() {
+		run(RATE * WARMUP_SECONDS);
+
+		Result result = run(RATE * DURATION_SECONDS);
+
+		System.out.printf("[loadtest] taxa alvo=%d req/s duracao=%ds concluidas=%d throughput=%.0f req/s erros=%d%n",
+			RATE, DURATION_SECONDS, result.total().getTotalCount(), result.throughput(), result.errors());
+		System.out.printf("[loadtest] %-18s %8s %10s %10s %10s %10s%n", "operacao", "n", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+		result.byOperation().forEach((operation, histogram) -> print(operation.name(), histogram));
+		print("TOTAL", result.total());
+
+		assertThat(result.errors()).isZero();
+	}
+
+	private Result run(int requests) {
+		Map<Operation, Histogram> byOperation = new EnumMap<>(Operation.class);
+		for (Operation operation : Operation.values()) {
+			byOperation.put(operation, new ConcurrentHistogram(3));
+		}
+		Histogram total = new ConcurrentHistogram(3);
+		AtomicInteger errors = new AtomicInteger();
+		List<CompletableFuture<?>> inFlight = new ArrayList<>(requests);
+
+		long intervalNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+		long start = System.nanoTime();
+		for (int i = 0; i < requests; i++) {
+			long intended = start + i * intervalNanos;
+			long wait = intended - System.nanoTime();
+			if (wait > 0) {
+				LockSupport.parkNanos(wait);
+			}
+
+			Operation operation = Operation.pick(ThreadLocalRandom.current().nextInt(100));
+			inFlight.add(send(operation).whenComplete((ok, failure) -> {
+				long latency = System.nanoTime() - intended;
+				byOperation.get(operation).recordValue(latency);
+				total.recordValue(latency);
+				if (failure != null || !ok) {
+					errors.incrementAndGet();
+				}
+			}));
+		}
+		CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+		return new Result(byOperation, total, requests / seconds, errors.get());
+	}
+
+	private CompletableFuture<Boolean> send(Operation operation) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		switch (operation) {
+			case CREATE_ORDER -> {
+				String body = json(customerIds.get(random.nextInt(customerIds.size())));
+				return client.sendAsync(post("/api/orders", body), HttpResponse.BodyHandlers.ofString())
+					.thenApply(response -> {
+						Matcher matcher = ID.matcher(response.body());
+						if (response.statusCode() == 201 && matcher.find()) {
+							pendingOrders.add(Long.valueOf(matcher.group(1)));
+						}
+						return response.statusCode() < 400;
+					});
+			}
+			case CONFIRM_ORDER -> {
+				Long id = pendingOrders.poll();
+				if (id == null) {
+					return get("/api/orders/" + orderIds.get(random.nextInt(orderIds.size())));
+				}
+				return client.sendAsync(post("/api/orders/" + id + "/confirm", ""), HttpResponse.BodyHandlers.discarding())
+					.thenApply(response -> response.statusCode() < 400);
+			}
+			case LIST_BY_CUSTOMER -> {
+				return get("/api/orders/customer/" + customerIds.get(random.nextInt(customerIds.size())));
+			}
+			case GET_CUSTOMER -> {
+				return get("/api/customers/" + customerIds.get(random.nextInt(customerIds.size())));
+			}
+			default -> {
+				return get("/api/orders/" + orderIds.get(random.nextInt(orderIds.size())));
+			}
+		}
+	}
+
+	private CompletableFuture<Boolean> get(String path) {
+		return client.sendAsync(HttpRequest.newBuilder(uri(path)).timeout(Duration.ofSeconds(30)).GET().build(),
+				HttpResponse.BodyHandlers.discarding())
+			.thenApply(response -> response.statusCode() < 400);
+	}
+
+	private HttpRequest post(String path, String body) {
+		return HttpRequest.newBuilder(uri(path))
+			.timeout(Duration.ofSeconds(30))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(body))
+			.build();
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	private static CreateOrderRequest orderRequest(Long customerId) {
+		return new CreateOrderRequest(customerId, List.of(
+			new OrderItemRequest("Teclado", 1, new BigDecimal("250.00")),
+			new OrderItemRequest("Mouse", 2, new BigDecimal("80.00")),
+			new OrderItemRequest("Monitor", 1, new BigDecimal("1200.00"))));
+	}
+
+	private static String json(Long customerId) {
+		return """
+			{"customerId":%d,"items":[
+			 {"productName":"Teclado","quantity":1,"unitPrice":250.00},
+			 {"productName":"Mouse","quantity":2,"unitPrice":80.00},
+			 {"productName":"Monitor","quantity":1,"unitPrice":1200.00}]}
+			""".formatted(customerId);
+	}
+
+	private static void print(String name, Histogram histogram) {
+		System.out.printf("[loadtest] %-18s %8d %10.2f %10.2f %10.2f %10.2f%n", name,
+			histogram.getTotalCount(),
+			histogram.getValueAtPercentile(50) / 1_000_000.0,
+			histogram.getValueAtPercentile(99) / 1_000_000.0,
+			histogram.getValueAtPercentile(99.9) / 1_000_000.0,
+			histogram.getMaxValue() / 1_000_000.0);
+	}
+
+	private record Result(Map<Operation, Histogram> byOperation, Histogram total, double throughput, int errors) {
+	}
+
+}
@@ -0,0 +1,154 @@
+package com.example.monolitomodular.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Carga HTTP em POST /api/orders e GET /api/orders/{id}: mede throughput e p99.
+ * As subclasses definem o modo de execução (threads de plataforma ou virtual threads).
+ * Executar com: mvn -Ploadtest test  (virtual threads: mvn -Pjava21,loadtest test)
+ * Ajustes: -Dloadtest.concurrency=256 -Dloadtest.requests=5000
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+	"spring.jpa.show-sql=false",
+	"logging.level.org.hibernate.SQL=WARN",
+	"logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+	"logging.level.com.example.monolitomodular=INFO"
+})
+abstract class OrderEndpointsLoadTest {
+
+	private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 256);
+	private static final int REQUESTS = Integer.getInteger("loadtest.requests", 5000);
+	private static final int WARMUP_REQUESTS = Integer.getInteger("loadtest.warmup", 500);
+
+	private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+	private static final String ORDER_JSON = """
+		{"customerId":1,"items":[
+		 {"productName":"Teclado","quantity":1,"unitPrice":250.00},
+		 {"productName":"Mouse","quantity":2,"unitPrice":80.00},
+		 {"productName":"Monitor","quantity":1,"unitPrice":1200.00}]}
+		""";
+
+	@LocalServerPort
+	private int port;
+
+	private final HttpClient client = HttpClient.newBuilder()
+		.version(HttpClient.Version.HTTP_1_1)
+		.connectTimeout(Duration.ofSeconds(5))
+		.build();
+
+	protected abstract String mode();
+
+	@Test
+	void createOrder() throws Exception {
+		run("POST /api/orders", () -> HttpRequest.newBuilder(uri("/api/orders"))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(ORDER_JSON))
+			.build());
+	}
+
+	@Test
+	void getOrderById() throws Exception {
+		HttpResponse<String> created = client.send(HttpRequest.newBuilder(uri("/api/orders"))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(ORDER_JSON))
+			.build(), HttpResponse.BodyHandlers.ofString());
+		Matcher matcher = ID.matcher(created.body());
+		assertThat(matcher.find()).as(created.body()).isTrue();
+		URI order = uri("/api/orders/" + matcher.group(1));
+
+		run("GET /api/orders/{id}", () -> HttpRequest.newBuilder(order).GET().build());
+	}
+
+	private void run(String endpoint, RequestFactory requests) throws Exception {
+		execute(requests, WARMUP_REQUESTS);
+
+		long start = System.nanoTime();
+		Result result = execute(requests, REQUESTS);
+		double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+		System.out.printf("[loadtest] modo=%s endpoint=%s concorrencia=%d requisicoes=%d req/s=%.0f "
+				+ "p50=%.2fms p99=%.2fms max=%.2fms erros=%d%n",
+			mode(), endpoint, CONCURRENCY, REQUESTS, REQUESTS / seconds,
+			result.percentileMillis(50), result.percentileMillis(99), result.percentileMillis(100),
+			result.errors());
+		assertThat(result.errors()).isZero();
+	}
+
+	private Result execute(RequestFactory requests, int total) throws Exception {
+		long[] latencies = new long[total];
+		AtomicInteger next = new AtomicInteger();
+		AtomicInteger errors = new AtomicInteger();
+
+		ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+		try {
+			List<Future<?>> workers = new ArrayList<>(CONCURRENCY);
+			for (int i = 0; i < CONCURRENCY; i++) {
+				workers.add(clients.submit(() -> {
+					for (int n = next.getAndIncrement(); n < total; n = next.getAndIncrement()) {
+						long begin = System.nanoTime();
+						try {
+							HttpResponse<Void> response = client.send(requests.create(),
+								HttpResponse.BodyHandlers.discarding());
+							if (response.statusCode() >= 400) {
+								errors.incrementAndGet();
+							}
+						} catch (Exception e) {
+							errors.incrementAndGet();
+						}
+						latencies[n] = System.nanoTime() - begin;
+					}
+					return null;
+				}));
+			}
+			for (Future<?> worker : workers) {
+				worker.get();
+			}
+		} finally {
+			clients.shutdownNow();
+		}
+		return new Result(latencies, errors.get());
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	@FunctionalInterface
+	private interface RequestFactory {
+		HttpRequest create();
+	}
+
+	private record Result(long[] latencies, int errors) {
+
+		Result {
+			Arrays.sort(latencies);
+		}
+
+		double percentileMillis(double percentile) {
+			int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+			return latencies[Math.max(index, 0)] / 1_000_000.0;
+		}
+	}
+
+}
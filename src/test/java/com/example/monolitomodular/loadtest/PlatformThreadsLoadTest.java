@@ -0,0 +1,13 @@
+package com.example.monolitomodular.loadtest;
+
+/**
+ * Modo padrão: pool de threads de plataforma do Tomcat e pool Hikari padrão.
+ */
+class PlatformThreadsLoadTest extends OrderEndpointsLoadTest {
+
+	@Override
+	protected String mode() {
+		return "platform";
+	}
+
+}
@@ -0,0 +1,19 @@
+package com.example.monolitomodular.loadtest;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Perfil virtual-threads: requisições em virtual threads e pool Hikari dimensionado para elas.
+ */
+@ActiveProfiles("virtual-threads")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadsLoadTest extends OrderEndpointsLoadTest {
+
+	@Override
+	protected String mode() {
+		return "virtual";
+	}
+
+}
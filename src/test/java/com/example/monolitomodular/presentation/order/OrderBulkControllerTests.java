@@ -0,0 +1,74 @@
+package com.example.monolitomodular.presentation.order;
+
+import com.example.monolitomodular.application.order.dto.BulkOrderResponse;
+import com.example.monolitomodular.application.order.dto.BulkOrderResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = "app.orders.bulk.chunk-size=2")
+class OrderBulkControllerTests {
+
+	private static final String ORDER = "{\"customerId\":%d,\"items\":[{\"productName\":\"Produto\",\"quantity\":1,\"unitPrice\":10.00}]}";
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private JsonMapper jsonMapper;
+
+	private final HttpClient client = HttpClient.newHttpClient();
+
+	@Test
+	void arrayBodyReportsEachRecord() throws Exception {
+		String body = "[" + String.join(",", order(1), order(999), order(2)) + "]";
+
+		BulkOrderResponse response = post("application/json", body);
+
+		assertThat(response.total()).isEqualTo(3);
+		assertThat(response.created()).isEqualTo(2);
+		assertThat(response.results()).extracting(BulkOrderResult::error)
+			.containsExactly(null, "Cliente não encontrado: 999", null);
+	}
+
+	@Test
+	void malformedNdjsonLineFailsOnlyItsRecord() throws Exception {
+		String body = String.join("\n", order(1), order(2), "{\"customerId\": 1, \"items\": [", "", order(3), order(1)) + "\n";
+
+		BulkOrderResponse response = post("application/x-ndjson", body);
+
+		// a linha em branco é ignorada: 5 registros, o terceiro malformado
+		assertThat(response.total()).isEqualTo(5);
+		assertThat(response.created()).isEqualTo(4);
+		assertThat(response.results()).extracting(BulkOrderResult::index).containsExactly(0, 1, 2, 3, 4);
+		assertThat(response.results().get(2).orderId()).isNull();
+		assertThat(response.results().get(2).error()).startsWith("Linha NDJSON inválida");
+		assertThat(response.results()).filteredOn(result -> result.index() != 2)
+			.allSatisfy(result -> assertThat(result.orderId()).isNotNull());
+	}
+
+	private String order(long customerId) {
+		return ORDER.formatted(customerId);
+	}
+
+	private BulkOrderResponse post(String contentType, String body) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/orders/bulk"))
+			.header("Content-Type", contentType)
+			.POST(HttpRequest.BodyPublishers.ofString(body))
+			.build();
+		HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+		assertThat(response.statusCode()).isEqualTo(200);
+		return jsonMapper.readValue(response.body(), BulkOrderResponse.class);
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.example.monolitomodular.presentation.order;
+
+import com.example.monolitomodular.application.order.ChangeOrderStatusUseCase;
+import com.example.monolitomodular.application.order.CreateOrderUseCase;
+import com.example.monolitomodular.application.order.dto.CreateOrderRequest;
+import com.example.monolitomodular.application.order.dto.OrderItemRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = "app.outbox.relay.interval=100ms")
+class OrderEventControllerTests {
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private CreateOrderUseCase createOrderUseCase;
+
+	@Autowired
+	private ChangeOrderStatusUseCase changeOrderStatusUseCase;
+
+	private final HttpClient client = HttpClient.newHttpClient();
+
+	@Test
+	void streamsFilteredStatusChangesAndResumesFromLastEventId() throws Exception {
+		BlockingQueue<String> confirmed = subscribe("?status=CONFIRMED", null);
+		Long first = createOrder();
+		Long second = createOrder();
+
+		changeOrderStatusUseCase.confirm(first);
+		changeOrderStatusUseCase.cancel(second);
+
+		String confirmedId = next(confirmed, "id:");
+		assertThat(next(confirmed, "data:"))
+			.contains("\"orderId\":" + first).contains("\"status\":\"CONFIRMED\"");
+
+		// retomando depois da confirmação, o próximo evento é o cancelamento (sem filtro)
+		BlockingQueue<String> resumed = subscribe("", confirmedId.substring("id:".length()));
+		assertThat(next(resumed, "data:"))
+			.contains("\"orderId\":" + second).contains("\"status\":\"CANCELLED\"");
+	}
+
+	private Long createOrder() {
+		return createOrderUseCase.execute(new CreateOrderRequest(1L,
+			List.of(new OrderItemRequest("Produto", 1, new BigDecimal("10.00"))))).id();
+	}
+
+	private BlockingQueue<String> subscribe(String query, String lastEventId) throws Exception {
+		HttpRequest.Builder request = HttpRequest.newBuilder(
+				URI.create("http://localhost:" + port + "/api/orders/events" + query))
+			.header("Accept", "text/event-stream");
+		if (lastEventId != null) {
+			request.header("Last-Event-ID", lastEventId);
+		}
+		HttpResponse<Stream<String>> response = client.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+		assertThat(response.statusCode()).isEqualTo(200);
+
+		BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+		Thread reader = new Thread(() -> response.body().forEach(lines::add));
+		reader.setDaemon(true);
+		reader.start();
+		return lines;
+	}
+
+	private String next(BlockingQueue<String> lines, String prefix) throws InterruptedException {
+		long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+		while (System.nanoTime() < deadline) {
+			String line = lines.poll(100, TimeUnit.MILLISECONDS);
+			if (line != null && line.startsWith(prefix)) {
+				return line;
+			}
+		}
+		throw new AssertionError("Nenhuma linha '" + prefix + "' recebida");
+	}
+}